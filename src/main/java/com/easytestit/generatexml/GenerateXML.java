@@ -3,19 +3,26 @@ package com.easytestit.generatexml;
 import com.easytestit.generatexml.configuration.ConfigureXMLReport;
 import com.easytestit.generatexml.configuration.ConfigureXMLMode;
 import com.easytestit.generatexml.http.SenderService;
+import com.easytestit.generatexml.service.CacheService;
+import com.easytestit.generatexml.service.DiscoveryService;
+import com.easytestit.generatexml.service.PartialReport;
 import com.easytestit.generatexml.service.TransformService;
 import com.easytestit.generatexml.data.DefaultData;
 import com.easytestit.generatexml.service.Serialization;
+import com.easytestit.generatexml.service.StreamingReportWriter;
 import com.easytestit.generatexml.service.ZipService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 
 public class GenerateXML {
 
@@ -45,11 +52,16 @@ public class GenerateXML {
                 //read JSON files from compiled directory
                 configureXMLReport.addJsonFiles(getJsonFilesFrom(configureXMLReport.getReportFolder()));
                 //convert JSON file in XML
-                new Serialization().serializeToXML(
-                        new TransformService().transformFeaturesToReport(
-                                new ParseJSON(configureXMLReport).parse()));
+                var zipWhileWriting = configureXMLReport.containsConfigurationMode(ConfigureXMLMode.ZIP_XML_RESULT_TO_FILE)
+                        && configureXMLReport.containsConfigurationMode(ConfigureXMLMode.ZIP_WHILE_WRITING);
+                var zipService = zipWhileWriting ? createZipService() : null;
+                if (configureXMLReport.containsConfigurationMode(ConfigureXMLMode.STREAMING_PIPELINE))
+                    new StreamingPipeline(configureXMLReport).run(Path.of(DefaultData.REPORT_RESULTS_FOLDER, DefaultData.FILE_NAME), zipService);
+                else if (configureXMLReport.containsConfigurationMode(ConfigureXMLMode.STREAM_XML_REPORT)) writeReportBySuites(zipService);
+                else new Serialization(configureXMLReport.isConsoleEcho(), zipService).serializeToXML(transformFeatures().toXMLReport());
                 //create ZIP file from XML which created from previews step and send it to report server
-                if (configureXMLReport.containsConfigurationMode(ConfigureXMLMode.ZIP_XML_RESULT_TO_FILE)) createZip();
+                if (configureXMLReport.containsConfigurationMode(ConfigureXMLMode.ZIP_XML_RESULT_TO_FILE) && !zipWhileWriting)
+                    createZipService().createZip();
                 if (configureXMLReport.containsConfigurationMode(ConfigureXMLMode.SEND_RESULT_TO_RP)) sendXML();
             } else {
                 //when configuration is null start functionality with default parameters
@@ -64,6 +76,103 @@ public class GenerateXML {
         }
     }
 
+    /**
+     * <p> Method starts watching of report folder while tests are running. Every finished JSON file is converted
+     * right after it was written and the aggregated XML report is rewritten with the configured interval.
+     * Closing of returned watcher writes the final report.
+     * </p>
+     * @return the running watcher which should be closed when all tests are finished
+     */
+    @NotNull
+    public ReportWatcher watch() {
+        if (configureXMLReport == null) {
+            configureXMLReport = new ConfigureXMLReport(new File(DefaultData.TARGET_FOLDER_PATH));
+        }
+        return new ReportWatcher(configureXMLReport);
+    }
+
+    /**
+     * Writes the aggregated report suite by suite. When JSON reports are parsed feature by feature,
+     * every suite is written right after its feature was parsed, so neither features nor suites are kept in memory
+     * </p>
+     * @param zipService service of archive where report is written in the same pass or null
+     */
+    private void writeReportBySuites(@Nullable ZipService zipService) {
+        try (var writer = new StreamingReportWriter(Path.of(DefaultData.REPORT_RESULTS_FOLDER, DefaultData.FILE_NAME), configureXMLReport.isConsoleEcho(), zipService)) {
+            if (configureXMLReport.containsConfigurationMode(ConfigureXMLMode.STREAM_JSON_FEATURES)
+                    && !configureXMLReport.containsConfigurationMode(ConfigureXMLMode.CACHE_TRANSFORMED_FILES)) {
+                new ParseJSON(configureXMLReport).parse(feature -> writer.write(TransformService.toPartialReport(feature)));
+            } else {
+                writer.write(transformFeatures());
+            }
+            writer.finish();
+        }
+    }
+
+    /**
+     * Parses JSON reports and converts them to the aggregated report in the way which is defined by configuration
+     * </p>
+     * @return the aggregated report from all features
+     */
+    @NotNull
+    private PartialReport transformFeatures() {
+        if (configureXMLReport.containsConfigurationMode(ConfigureXMLMode.CACHE_TRANSFORMED_FILES))
+            return transformChangedFiles();
+        if (configureXMLReport.containsConfigurationMode(ConfigureXMLMode.STREAM_JSON_FEATURES))
+            return streamFeatures();
+        return new TransformService(configureXMLReport.getTransformThreads()).transformFeatures(new ParseJSON(configureXMLReport).parse());
+    }
+
+    /**
+     * Takes transformed results of unchanged JSON files from cache and parses only new or changed files.
+     * Results of every file are combined in the order of JSON files
+     * </p>
+     * @return the aggregated report from all features
+     */
+    @NotNull
+    private PartialReport transformChangedFiles() {
+        var cacheService = new CacheService(configureXMLReport.getCacheFolder());
+        var jsonFiles = configureXMLReport.getJsonFiles();
+        Map<String, PartialReport> reports = new LinkedHashMap<>();
+        Collection<String> changedFiles = new ArrayList<>();
+
+        jsonFiles.forEach(jsonFile -> {
+            var cachedReport = cacheService.load(jsonFile);
+            reports.put(jsonFile, cachedReport.orElse(null));
+            if (cachedReport.isEmpty()) changedFiles.add(jsonFile);
+        });
+        LOGGER.info(String.format("%d of %d JSON files were changed since the previous launch", changedFiles.size(), jsonFiles.size()));
+
+        if (!changedFiles.isEmpty()) {
+            new ParseJSON(configureXMLReport).parseByFile(changedFiles).forEach((jsonFile, features) -> {
+                var transformService = new TransformService();
+                features.forEach(transformService::transformFeature);
+                cacheService.store(jsonFile, transformService.getPartialReport());
+                reports.put(jsonFile, transformService.getPartialReport());
+            });
+        }
+        cacheService.prune(jsonFiles);
+
+        var report = new PartialReport();
+        reports.values().stream().filter(Objects::nonNull).forEach(report::merge);
+        if (report.getSuitesCount() == 0) {
+            throw new ValidationException(String.format("Passed files have no specified Cucumber standard report! Please check your JSON reports in %s direction", configureXMLReport.getReportFolder()));
+        }
+        return report;
+    }
+
+    /**
+     * Reads JSON reports feature by feature and passes every feature to transformation right after it was read
+     * </p>
+     * @return the aggregated report from all features
+     */
+    @NotNull
+    private PartialReport streamFeatures() {
+        var transformService = new TransformService();
+        new ParseJSON(configureXMLReport).parse(transformService::transformFeature);
+        return transformService.getPartialReport();
+    }
+
     /**
      * Void function which provides the ability to create a directory that will later serve as the folder
      * where the aggregated XML report will be created
@@ -77,7 +186,7 @@ public class GenerateXML {
     }
 
     /**
-     * A convenience method which read files with specific extension
+     * A convenience method which finds JSON files in report folder and its subfolders by configured patterns
      * and collects path to these files in a new String collection
      * </p>
      * @param reportFolder the folder where locate all files after launching tests
@@ -85,39 +194,21 @@ public class GenerateXML {
      */
     @NotNull
     private Collection<String> getJsonFilesFrom(@NotNull File reportFolder) {
-        var extensions = Collections.singletonList(DefaultData.DEFAULT_FILE_EXTENSIONS);
-        Collection<String> out = new ArrayList<>();
-        File[] files = reportFolder.listFiles();
-        //might be null
-        if (files == null) {
-            LOGGER.info("Report folder ".concat(reportFolder.getName()).concat(" aren't contain any files!"));
-            return out;
-        }
-        //analyze files in folder and filter by specified extension and collect these to new collection
-        Arrays.stream(files).forEach(file -> {
-            if (file.isFile() && extensions.contains(file.getName().substring(file.getName().lastIndexOf('.') + 1))) {
-                out.add(String.valueOf(reportFolder)
-                        .concat(String.valueOf(File.separatorChar))
-                        .concat(file.getName()));
-            } else {
-                LOGGER.info("Report folder ".concat(reportFolder.getName())
-                        .concat(" doesn't contain files with JSON format!"));
-            }
-        });
-
-        return out;
+        var discoveryService = configureXMLReport == null
+                ? new DiscoveryService()
+                : new DiscoveryService(configureXMLReport.getIncludePatterns(), configureXMLReport.getExcludePatterns(), configureXMLReport.getMaxDepth());
+        return discoveryService.discover(reportFolder);
     }
 
     /**
-     * Provides the ability to create a zip file with report folder where stored aggregated XML report
-     * This functionality will work if needed configuration will pass
+     * Provides the ability to create a zip file with aggregated XML report with configured compression.
+     * Failures of archiving aren't hidden, so the report isn't sent when the archive wasn't created
+     * </p>
+     * @return service which writes archive to the default file
      */
-    private void createZip() {
-        try {
-            new ZipService().createZip();
-        } catch (Exception e) {
-            generateErrorReport(e);
-        }
+    @NotNull
+    private ZipService createZipService() {
+        return new ZipService(Path.of(DefaultData.FILE_ZIP_NAME), configureXMLReport.getZipCompressionLevel());
     }
 
     /**
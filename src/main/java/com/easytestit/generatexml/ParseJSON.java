@@ -1,35 +1,45 @@
 package com.easytestit.generatexml;
 
+import com.easytestit.generatexml.configuration.ConfigureXMLMode;
 import com.easytestit.generatexml.configuration.ConfigureXMLReport;
 import com.easytestit.generatexml.dto.input.Feature;
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
+import com.easytestit.generatexml.parser.FeatureParser;
+import com.easytestit.generatexml.parser.GsonFeatureParser;
 import lombok.NoArgsConstructor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.BufferedInputStream;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.InputStreamReader;
-import java.lang.reflect.Type;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 /**
  * Class {@link ParseJSON} describes functionality where JSON files will deserialize to Java Objects
  */
-@SuppressWarnings("unchecked")
 @NoArgsConstructor
 class ParseJSON {
 
     private static final Logger LOGGER = LogManager.getLogger(ParseJSON.class.getName());
     private ConfigureXMLReport configureXMLReport;
+    private final Map<String, Exception> failedFiles = new LinkedHashMap<>();
+    private FeatureParser featureParser = createFeatureParser(null);
 
     ParseJSON(ConfigureXMLReport configureXMLReport) {
         LOGGER.info("Start parse JSON report to Object with specified Configuration");
         this.configureXMLReport = configureXMLReport;
+        this.featureParser = createFeatureParser(configureXMLReport);
     }
 
     /**
@@ -49,6 +59,38 @@ class ParseJSON {
         return getFeatureDocumentsList(jsonFiles);
     }
 
+    /**
+     * Start parse JSON with predicate configuration in streaming mode.
+     * Every feature is passed to the consumer right after it was read, so only one feature is kept in memory at a time
+     * @param featureConsumer the consumer which receives deserialized features one by one
+     * @return the quantity of parsed features
+     */
+    int parse(Consumer<Feature> featureConsumer) {
+        return streamFeatureDocuments(configureXMLReport.getJsonFiles(), featureConsumer);
+    }
+
+    /**
+     * Start parse JSON without predicate configuration in streaming mode
+     * @param jsonFiles the path to real files which locate in compiled folder
+     * @param featureConsumer the consumer which receives deserialized features one by one
+     * @return the quantity of parsed features
+     */
+    int parse(Collection<String> jsonFiles, Consumer<Feature> featureConsumer) {
+        return streamFeatureDocuments(jsonFiles, featureConsumer);
+    }
+
+    /**
+     * Start parse JSON with predicate configuration and keep features of every file separately
+     * @param jsonFiles the path to real files which locate in compiled folder
+     * @return features of every parsed file in the order of passed files
+     */
+    Map<String, Collection<Feature>> parseByFile(Collection<String> jsonFiles) {
+        if (jsonFiles.isEmpty()) {
+            throw new ValidationException("None JSON report files was added!");
+        }
+        return getFeatureDocumentsByFile(jsonFiles);
+    }
+
     /**
      * Make a list of Features objects which was deserialized from JSON files
      * @param jsonFiles path to real files which locate in compiled folder
@@ -62,30 +104,155 @@ class ParseJSON {
             throw new ValidationException("None JSON report files was added!");
         }
 
+        getFeatureDocumentsByFile(jsonFiles).values().forEach(features::addAll);
+
+        if (features.isEmpty()) {
+            throw new ValidationException(String.format("Passed files have no specified Cucumber standard report! Please check your JSON reports in %s direction", configureXMLReport.getReportFolder()));
+        }
+
+        return features;
+    }
+
+    /**
+     * Make Features objects of every JSON file one after another or in parallel when it's configured
+     * @param jsonFiles path to real files which locate in compiled folder
+     * @return Features objects of every parsed file in the order of passed files
+     */
+    @NotNull
+    private Map<String, Collection<Feature>> getFeatureDocumentsByFile(@NotNull Collection<String> jsonFiles) {
+        if (isParallel()) {
+            return getFeatureDocumentsByFileInParallel(jsonFiles);
+        }
+
+        Map<String, Collection<Feature>> features = new LinkedHashMap<>();
         jsonFiles.forEach( jsonFile -> {
             Collection<Feature> reportFeatures = parseForFeatureDocuments(jsonFile);
             LOGGER.info(String.format("File '%s' contains %d features", jsonFile, reportFeatures.size()));
-            features.addAll(reportFeatures);
+            features.put(jsonFile, reportFeatures);
         });
+        return features;
+    }
 
-        if (features.isEmpty()) {
-            throw new ValidationException(String.format("Passed files have no specified Cucumber standard report! Please check your JSON reports in %s direction", configureXMLReport.getReportFolder()));
+    /**
+     * Make Features objects where every JSON file is parsed in separate task of the configured executor.
+     * Features are collected in the order of passed files, so the result doesn't depend on the order of finished tasks.
+     * The file which can't be parsed is stored in {@link #getFailedFiles()} and doesn't stop parsing of other files
+     * @param jsonFiles path to real files which locate in compiled folder
+     * @return Features objects of every parsed file in the order of passed files
+     */
+    @NotNull
+    private Map<String, Collection<Feature>> getFeatureDocumentsByFileInParallel(@NotNull Collection<String> jsonFiles) {
+        Map<String, Collection<Feature>> features = new LinkedHashMap<>();
+        ExecutorService executor = configureXMLReport.getParseExecutor() != null
+                ? configureXMLReport.getParseExecutor()
+                : Executors.newFixedThreadPool(configureXMLReport.getParseThreads());
+
+        try {
+            List<Future<Collection<Feature>>> reports = new ArrayList<>();
+            jsonFiles.forEach(jsonFile -> reports.add(executor.submit(() -> parseForFeatureDocuments(jsonFile))));
+
+            var i = 0;
+            for (String jsonFile : jsonFiles) {
+                try {
+                    Collection<Feature> reportFeatures = reports.get(i++).get();
+                    LOGGER.info(String.format("File '%s' contains %d features", jsonFile, reportFeatures.size()));
+                    features.put(jsonFile, reportFeatures);
+                } catch (ExecutionException e) {
+                    var cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    LOGGER.error(String.format("File '%s' wasn't parsed", jsonFile), cause);
+                    failedFiles.put(jsonFile, cause);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValidationException("Parsing of JSON report files was interrupted", e);
+        } finally {
+            if (configureXMLReport.getParseExecutor() == null) executor.shutdownNow();
+        }
+
+        if (!failedFiles.isEmpty()) {
+            LOGGER.error(String.format("%d of %d JSON report files weren't parsed", failedFiles.size(), jsonFiles.size()));
         }
 
         return features;
     }
 
+    /**
+     * @return true when configuration defines more than one thread or own executor for parsing
+     */
+    private boolean isParallel() {
+        return configureXMLReport != null
+                && (configureXMLReport.getParseExecutor() != null || configureXMLReport.getParseThreads() > 1);
+    }
+
+    /**
+     * @return JSON files which weren't parsed in parallel mode with the reason of failure, in the order of passed files
+     */
+    Map<String, Exception> getFailedFiles() {
+        return Collections.unmodifiableMap(failedFiles);
+    }
+
     /**
      * Describe functionality where JSON files are parsed in java Object
      * @param jsonFile JSON files with a Cucumber standard describing the result of running tests
      * @return ReportDocument object with values from JSON files
      */
     private Collection<Feature> parseForFeatureDocuments(String jsonFile) {
-        Type collectionType = new TypeToken<Collection<Feature>>(){}.getType();
-        try {
-            return (Collection<Feature>) new Gson().fromJson(new InputStreamReader(new FileInputStream(jsonFile), StandardCharsets.UTF_8), collectionType);
-        } catch (FileNotFoundException e) {
-            throw new ValidationException(e);
+        Collection<Feature> features = new ArrayList<>();
+        streamFeatureDocuments(jsonFile, features::add);
+        return features;
+    }
+
+    /**
+     * Pass Features objects which was deserialized from JSON files to the consumer one by one
+     * @param jsonFiles path to real files which locate in compiled folder
+     * @param featureConsumer the consumer which receives deserialized features
+     * @return the quantity of features from all files
+     */
+    private int streamFeatureDocuments(@NotNull Collection<String> jsonFiles, @NotNull Consumer<Feature> featureConsumer) {
+        if (jsonFiles.isEmpty()) {
+            throw new ValidationException("None JSON report files was added!");
+        }
+
+        var featuresCount = 0;
+        for (String jsonFile : jsonFiles) {
+            var reportFeaturesCount = streamFeatureDocuments(jsonFile, featureConsumer);
+            LOGGER.info(String.format("File '%s' contains %d features", jsonFile, reportFeaturesCount));
+            featuresCount += reportFeaturesCount;
         }
+
+        if (featuresCount == 0) {
+            throw new ValidationException("Passed files have no specified Cucumber standard report! Please check your JSON reports");
+        }
+
+        return featuresCount;
+    }
+
+    /**
+     * Describe functionality where JSON file is passed to the configured {@link FeatureParser}
+     * which deserializes every element of the root array in separate java Object
+     * @param jsonFile JSON files with a Cucumber standard describing the result of running tests
+     * @param featureConsumer the consumer which receives deserialized features
+     * @return the quantity of features from the file
+     */
+    private int streamFeatureDocuments(String jsonFile, Consumer<Feature> featureConsumer) {
+        try (var in = new BufferedInputStream(new FileInputStream(jsonFile))) {
+            return featureParser.parse(in, featureConsumer);
+        } catch (IOException e) {
+            throw new ValidationException(String.format("File '%s' doesn't contain Cucumber standard report!", jsonFile), e);
+        }
+    }
+
+    /**
+     * Choose the backend which deserializes JSON reports. The backend from configuration has priority,
+     * otherwise Gson backend is used which reads only needed values with {@link ConfigureXMLMode#PROJECTION_JSON_PARSE}
+     * @param configureXMLReport configuration of application, might be null
+     * @return the backend which deserializes JSON reports
+     */
+    @NotNull
+    private static FeatureParser createFeatureParser(ConfigureXMLReport configureXMLReport) {
+        if (configureXMLReport == null) return new GsonFeatureParser();
+        if (configureXMLReport.getFeatureParser() != null) return configureXMLReport.getFeatureParser();
+        return new GsonFeatureParser(configureXMLReport.containsConfigurationMode(ConfigureXMLMode.PROJECTION_JSON_PARSE));
     }
 }
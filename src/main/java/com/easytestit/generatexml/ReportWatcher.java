@@ -0,0 +1,190 @@
+package com.easytestit.generatexml;
+
+import com.easytestit.generatexml.configuration.ConfigureXMLReport;
+import com.easytestit.generatexml.data.DefaultData;
+import com.easytestit.generatexml.service.PartialReport;
+import com.easytestit.generatexml.service.Serialization;
+import com.easytestit.generatexml.service.TransformService;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Class {@link ReportWatcher} describes functionality where JSON reports are converted while tests are running.
+ * Report folder is observed by {@link WatchService}, every new or changed JSON file is parsed and folded into
+ * the running aggregate, and the aggregated XML report is rewritten with the configured interval.
+ * The report is rewritten atomically, so readers always see the complete document
+ */
+public class ReportWatcher implements Closeable {
+
+    private static final Logger LOGGER = LogManager.getLogger(ReportWatcher.class.getName());
+
+    private final ConfigureXMLReport configureXMLReport;
+    private final Path reportFolder;
+    private final Path target = Path.of(DefaultData.REPORT_RESULTS_FOLDER, DefaultData.FILE_NAME);
+    private final WatchService watchService;
+    private final Thread watcherThread;
+    /**
+     * Transformed results of every JSON file sorted by path, so the order of suites doesn't depend on the order of events
+     */
+    private final Map<Path, PartialReport> reports = new TreeMap<>();
+    private final Map<Path, Long> foldedModifiedTimes = new ConcurrentHashMap<>();
+    private final Set<Path> pendingFiles = Collections.synchronizedSet(new LinkedHashSet<>());
+    private volatile boolean running = true;
+    private boolean changed;
+
+    ReportWatcher(@NotNull ConfigureXMLReport configureXMLReport) {
+        this.configureXMLReport = configureXMLReport;
+        this.reportFolder = configureXMLReport.getReportFolder().toPath();
+        try {
+            Files.createDirectories(reportFolder);
+            this.watchService = reportFolder.getFileSystem().newWatchService();
+            reportFolder.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            throw new ValidationException(String.format("Report folder '%s' can't be watched", reportFolder), e);
+        }
+        //JSON files which were created before watching started
+        scanReportFolder();
+
+        this.watcherThread = new Thread(this::watch, "generatexml-report-watcher");
+        this.watcherThread.setDaemon(true);
+        this.watcherThread.start();
+        LOGGER.info(String.format("Start watching JSON reports in '%s'", reportFolder.toAbsolutePath()));
+    }
+
+    /**
+     * Stop watching, fold JSON files which were changed after the last rewrite and write the final report
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            watchService.close();
+            watcherThread.join();
+        } catch (IOException e) {
+            LOGGER.warn("Watch service wasn't closed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        //files could be finished between the last event and closing of the watch service
+        scanReportFolder();
+        foldPendingFiles();
+        writeReport();
+        LOGGER.info(String.format("Stop watching JSON reports in '%s'", reportFolder.toAbsolutePath()));
+    }
+
+    private void watch() {
+        var interval = configureXMLReport.getWatchInterval().toMillis();
+        var nextWrite = System.currentTimeMillis() + interval;
+        try {
+            while (running) {
+                var key = watchService.poll(Math.max(nextWrite - System.currentTimeMillis(), 1), TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    key.pollEvents().forEach(event -> {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            scanReportFolder();
+                        } else if (isJsonFile((Path) event.context())) {
+                            pendingFiles.add(reportFolder.resolve((Path) event.context()));
+                        }
+                    });
+                    key.reset();
+                }
+                if (System.currentTimeMillis() >= nextWrite) {
+                    foldPendingFiles();
+                    writeReport();
+                    nextWrite = System.currentTimeMillis() + interval;
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            LOGGER.debug("Watch service was closed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            LOGGER.error("Unexpected error", e);
+        }
+    }
+
+    /**
+     * Parse every pending JSON file and replace its previous result in the aggregate.
+     * The file which can't be parsed yet, for example because Cucumber is still writing it, stays pending
+     */
+    private synchronized void foldPendingFiles() {
+        Set<Path> files;
+        synchronized (pendingFiles) {
+            files = new LinkedHashSet<>(pendingFiles);
+            pendingFiles.clear();
+        }
+
+        for (Iterator<Path> iterator = files.iterator(); iterator.hasNext(); ) {
+            var file = iterator.next();
+            if (!Files.isRegularFile(file)) {
+                changed |= reports.remove(file) != null;
+                foldedModifiedTimes.remove(file);
+                iterator.remove();
+                continue;
+            }
+            try {
+                var lastModified = Files.getLastModifiedTime(file).toMillis();
+                var transformService = new TransformService();
+                new ParseJSON(configureXMLReport).parse(Collections.singletonList(file.toString()), transformService::transformFeature);
+                reports.put(file, transformService.getPartialReport());
+                foldedModifiedTimes.put(file, lastModified);
+                changed = true;
+                iterator.remove();
+            } catch (IOException | RuntimeException e) {
+                LOGGER.debug(String.format("File '%s' isn't complete yet", file), e);
+            }
+        }
+        pendingFiles.addAll(files);
+    }
+
+    /**
+     * Rewrite the aggregated report when the aggregate was changed since the previous rewrite
+     */
+    private synchronized void writeReport() {
+        if (!changed || reports.isEmpty()) return;
+
+        var report = new PartialReport();
+        reports.values().forEach(report::merge);
+        new Serialization().serializeToFile(report.toXMLReport(), target);
+        changed = false;
+        LOGGER.info(String.format("Report '%s' was updated from %d JSON files", target, reports.size()));
+    }
+
+    /**
+     * Mark as pending JSON files which weren't folded yet or were changed after folding
+     */
+    private void scanReportFolder() {
+        try (Stream<Path> files = Files.list(reportFolder)) {
+            files.filter(file -> isJsonFile(file.getFileName()))
+                    .filter(file -> !Long.valueOf(file.toFile().lastModified()).equals(foldedModifiedTimes.get(file)))
+                    .forEach(pendingFiles::add);
+        } catch (IOException e) {
+            LOGGER.warn(String.format("Report folder '%s' can't be read", reportFolder), e);
+        }
+    }
+
+    private boolean isJsonFile(@NotNull Path file) {
+        return file.toString().endsWith(".".concat(DefaultData.DEFAULT_FILE_EXTENSIONS));
+    }
+}
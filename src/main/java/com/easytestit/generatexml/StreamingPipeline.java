@@ -0,0 +1,188 @@
+package com.easytestit.generatexml;
+
+import com.easytestit.generatexml.configuration.ConfigureXMLReport;
+import com.easytestit.generatexml.dto.input.Feature;
+import com.easytestit.generatexml.service.PartialReport;
+import com.easytestit.generatexml.service.StreamingReportWriter;
+import com.easytestit.generatexml.service.TransformService;
+import com.easytestit.generatexml.service.ZipService;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Class {@link StreamingPipeline} describes functionality where JSON reports are parsed, transformed and written
+ * at the same time. Parsing thread passes features to transforming threads and they pass suites to the writing thread
+ * through bounded queues. Quantity of features which are parsed but not written yet is limited by the pipeline capacity,
+ * so the parser waits when transformation or writing is slower. Suites are written in the order of features
+ */
+class StreamingPipeline {
+
+    private static final Logger LOGGER = LogManager.getLogger(StreamingPipeline.class.getName());
+    /**
+     * Marker which is passed after the last item of the stage
+     */
+    private static final Item<?> END = new Item<>(-1, null);
+    private static final long FAILURE_CHECK_INTERVAL_MS = 100;
+
+    private final ConfigureXMLReport configureXMLReport;
+    private final int transformThreads;
+    private final BlockingQueue<Item<?>> features;
+    private final BlockingQueue<Item<?>> suites;
+    private final Semaphore inFlight;
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+    StreamingPipeline(@NotNull ConfigureXMLReport configureXMLReport) {
+        this.configureXMLReport = configureXMLReport;
+        var capacity = configureXMLReport.getPipelineCapacity();
+        this.transformThreads = configureXMLReport.getTransformThreads();
+        this.features = new ArrayBlockingQueue<>(capacity + transformThreads);
+        this.suites = new ArrayBlockingQueue<>(capacity + transformThreads);
+        this.inFlight = new Semaphore(capacity);
+    }
+
+    /**
+     * Run all stages and write the aggregated report. The calling thread writes suites
+     *
+     * @param target the file where report should be written
+     * @param zipService service of archive where report is written in the same pass or null
+     */
+    void run(@NotNull Path target, @Nullable ZipService zipService) {
+        var start = System.nanoTime();
+        var threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(transformThreads + 1, runnable -> {
+            var thread = new Thread(runnable, "generatexml-pipeline-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (var writer = new StreamingReportWriter(target, configureXMLReport.isConsoleEcho(), zipService)) {
+            executor.execute(this::parse);
+            for (var i = 0; i < transformThreads; i++) executor.execute(this::transform);
+
+            var written = write(writer);
+            if (failure.get() != null) throw failure.get();
+            writer.finish();
+            LOGGER.info(String.format("Pipeline wrote %d suites in %d ms", written, (System.nanoTime() - start) / 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValidationException("Pipeline was interrupted", e);
+        } catch (ValidationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ValidationException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Parsing stage, it numbers features in the order they were read
+     */
+    private void parse() {
+        var index = new long[1];
+        try {
+            new ParseJSON(configureXMLReport).parse(feature -> {
+                try {
+                    inFlight.acquire();
+                    features.put(new Item<>(index[0]++, feature));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ValidationException("Parsing was interrupted", e);
+                }
+            });
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            for (var i = 0; i < transformThreads; i++) pass(features, END);
+        }
+    }
+
+    /**
+     * Transforming stage, every thread converts features until it takes the end marker
+     */
+    private void transform() {
+        try {
+            Item<?> item;
+            while ((item = features.take()) != END) {
+                if (failure.get() != null) continue;
+                try {
+                    suites.put(new Item<>(item.index, TransformService.toPartialReport((Feature) item.value)));
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pass(suites, END);
+        }
+    }
+
+    /**
+     * Writing stage, suites which were transformed earlier than previous ones wait for them.
+     * Stage stops when all transforming threads finished or any stage failed
+     *
+     * @param writer writer of the report
+     * @return quantity of written suites
+     * @throws InterruptedException when writing thread was interrupted
+     */
+    private int write(@NotNull StreamingReportWriter writer) throws InterruptedException {
+        Map<Long, PartialReport> reordered = new HashMap<>();
+        var next = 0L;
+        var written = 0;
+        var finishedThreads = 0;
+        while (finishedThreads < transformThreads && failure.get() == null) {
+            //waiting is limited, so failure of other stage is noticed even when no suites come anymore
+            var item = suites.poll(FAILURE_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            if (item == null) continue;
+            if (item == END) {
+                finishedThreads++;
+                continue;
+            }
+            reordered.put(item.index, (PartialReport) item.value);
+            PartialReport part;
+            while ((part = reordered.remove(next)) != null) {
+                writer.write(part);
+                inFlight.release();
+                written += part.getSuitesCount();
+                next++;
+            }
+        }
+        return written;
+    }
+
+    private void pass(@NotNull BlockingQueue<Item<?>> queue, @NotNull Item<?> item) {
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Value with its position in the order of features
+     */
+    private static final class Item<T> {
+
+        private final long index;
+        private final T value;
+
+        private Item(long index, T value) {
+            this.index = index;
+            this.value = value;
+        }
+    }
+}
@@ -11,8 +11,43 @@ public enum ConfigureXMLMode {
      */
     ZIP_XML_RESULT_TO_FILE,
 
+    /**
+     * Defines writing of ZIP archive together with XML report in one pass instead of reading the written report again.
+     * It works together with {@link #ZIP_XML_RESULT_TO_FILE}.
+     */
+    ZIP_WHILE_WRITING,
+
     /**
      * Defines additional functionality that enables sending results archive file to report portal server.
      */
-    SEND_RESULT_TO_RP
+    SEND_RESULT_TO_RP,
+
+    /**
+     * Defines parsing of JSON reports feature by feature, so the whole collection of features is never kept in memory.
+     */
+    STREAM_JSON_FEATURES,
+
+    /**
+     * Defines parsing of JSON reports where only values used in XML report are read and all other values are skipped.
+     * It's applied to the default parser, the parser which is set in configuration is used as it was created.
+     */
+    PROJECTION_JSON_PARSE,
+
+    /**
+     * Defines storing of transformed results of every JSON file on disk, so unchanged files aren't parsed on the next launch.
+     */
+    CACHE_TRANSFORMED_FILES,
+
+    /**
+     * Defines writing of XML report suite by suite right after suites are produced, so the whole report is never kept in memory.
+     * Together with {@link #STREAM_JSON_FEATURES} memory doesn't depend on quantity of test cases.
+     */
+    STREAM_XML_REPORT,
+
+    /**
+     * Defines parsing, transformation and writing of features at the same time on different threads.
+     * Stages are connected by bounded queues, so neither all features nor all suites are kept in memory.
+     * It has priority over other modes which define how report is built.
+     */
+    STREAMING_PIPELINE
 }
@@ -1,12 +1,17 @@
 package com.easytestit.generatexml.configuration;
 
+import com.easytestit.generatexml.data.DefaultData;
+import com.easytestit.generatexml.parser.FeatureParser;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.Deflater;
 
 /**
  * The main configuration class which is defining additional functionality and how our application will work
@@ -17,6 +22,18 @@ public class ConfigureXMLReport {
     private File reportFolder;
     private Collection<String> jsonFiles;
     private Collection<ConfigureXMLMode> configureXMLMode = new ArrayList<>();
+    private int parseThreads = 1;
+    private int transformThreads = 1;
+    private ExecutorService parseExecutor;
+    private FeatureParser featureParser;
+    private File cacheFolder = new File(DefaultData.CACHE_FOLDER);
+    private Duration watchInterval = Duration.ofSeconds(5);
+    private Collection<String> includePatterns = new ArrayList<>();
+    private Collection<String> excludePatterns = new ArrayList<>();
+    private int maxDepth = 1;
+    private boolean consoleEcho = true;
+    private int pipelineCapacity = 64;
+    private int zipCompressionLevel = Deflater.DEFAULT_COMPRESSION;
 
     public ConfigureXMLReport(@NotNull File reportFolder) {
         LOGGER.info(String.format("Create configuration for application with defined '%s' report folder", reportFolder.getAbsolutePath()));
@@ -61,4 +78,213 @@ public class ConfigureXMLReport {
     public boolean containsConfigurationMode(ConfigureXMLMode configureXMLMode) {
         return this.configureXMLMode.contains(configureXMLMode);
     }
+
+    /**
+     * Describe functionality where user wants to parse JSON files in parallel on the pool with fixed quantity of threads.
+     * The pool is created for every parsing and shut down after it. Features keep the order of passed JSON files
+     * @param parseThreads quantity of threads which parse JSON files, 1 means that files are parsed one after another
+     */
+    public void setParseThreads(int parseThreads) {
+        if (parseThreads < 1) {
+            throw new IllegalArgumentException("Quantity of threads for parsing should be positive, but was " + parseThreads);
+        }
+        this.parseThreads = parseThreads;
+    }
+
+    /**
+     * @return quantity of threads which parse JSON files
+     */
+    public int getParseThreads() {
+        return parseThreads;
+    }
+
+    /**
+     * Describe functionality where user wants to convert parsed features in parallel on fork-join pool.
+     * Suites keep the order of features. It has no effect with {@link ConfigureXMLMode#STREAM_JSON_FEATURES}
+     * where every feature is converted right after it was parsed
+     * @param transformThreads quantity of threads which convert features, 1 means that features are converted one after another
+     */
+    public void setTransformThreads(int transformThreads) {
+        if (transformThreads < 1) {
+            throw new IllegalArgumentException("Quantity of threads for transformation should be positive, but was " + transformThreads);
+        }
+        this.transformThreads = transformThreads;
+    }
+
+    /**
+     * @return quantity of threads which convert features
+     */
+    public int getTransformThreads() {
+        return transformThreads;
+    }
+
+    /**
+     * Describe functionality where user wants to parse JSON files in parallel on own executor.
+     * The executor isn't shut down after parsing and has priority over {@link #setParseThreads(int)}
+     * @param parseExecutor executor which parses JSON files
+     */
+    public void setParseExecutor(ExecutorService parseExecutor) {
+        this.parseExecutor = parseExecutor;
+    }
+
+    /**
+     * @return executor which parses JSON files or null if it wasn't specified
+     */
+    public ExecutorService getParseExecutor() {
+        return parseExecutor;
+    }
+
+    /**
+     * Describe functionality where user wants to choose the backend which deserializes JSON reports,
+     * for example {@link com.easytestit.generatexml.parser.JacksonFeatureParser} or own implementation.
+     * When it isn't specified {@link com.easytestit.generatexml.parser.GsonFeatureParser} is used
+     * @param featureParser the backend which deserializes JSON reports
+     */
+    public void setFeatureParser(FeatureParser featureParser) {
+        this.featureParser = featureParser;
+    }
+
+    /**
+     * @return the backend which deserializes JSON reports or null if it wasn't specified
+     */
+    public FeatureParser getFeatureParser() {
+        return featureParser;
+    }
+
+    /**
+     * Describe folder where transformed results of JSON files are stored with {@link ConfigureXMLMode#CACHE_TRANSFORMED_FILES}
+     * @param cacheFolder the folder for cached results, it's created when it doesn't exist
+     */
+    public void setCacheFolder(@NotNull File cacheFolder) {
+        this.cacheFolder = cacheFolder;
+    }
+
+    /**
+     * @return the folder where transformed results of JSON files are stored
+     */
+    public File getCacheFolder() {
+        return cacheFolder;
+    }
+
+    /**
+     * Describe how often the aggregated report is rewritten in watch mode, see {@link com.easytestit.generatexml.GenerateXML#watch()}
+     * @param watchInterval the interval between rewrites of the report
+     */
+    public void setWatchInterval(@NotNull Duration watchInterval) {
+        if (watchInterval.isNegative() || watchInterval.isZero()) {
+            throw new IllegalArgumentException("Watch interval should be positive, but was " + watchInterval);
+        }
+        this.watchInterval = watchInterval;
+    }
+
+    /**
+     * @return the interval between rewrites of the report in watch mode
+     */
+    public Duration getWatchInterval() {
+        return watchInterval;
+    }
+
+    /**
+     * Add glob pattern of JSON files which should be found in report folder, e.g. {@code target/cucumber/**.json}.
+     * Pattern is matched against the path relative to report folder, all JSON files are found when no pattern is added
+     * @param includePattern glob pattern of files
+     */
+    public void addIncludePattern(@NotNull String includePattern) {
+        this.includePatterns.add(includePattern);
+    }
+
+    /**
+     * @return glob patterns of JSON files which should be found in report folder
+     */
+    public Collection<String> getIncludePatterns() {
+        return includePatterns;
+    }
+
+    /**
+     * Add glob pattern of files and folders which should be skipped in report folder, e.g. {@code **&#47;node_modules}.
+     * Pattern is matched against the path relative to report folder
+     * @param excludePattern glob pattern of files or folders
+     */
+    public void addExcludePattern(@NotNull String excludePattern) {
+        this.excludePatterns.add(excludePattern);
+    }
+
+    /**
+     * @return glob patterns of files and folders which should be skipped in report folder
+     */
+    public Collection<String> getExcludePatterns() {
+        return excludePatterns;
+    }
+
+    /**
+     * Describe how deep subfolders of report folder are searched for JSON files
+     * @param maxDepth the maximum number of folder levels, 1 means files of report folder only
+     */
+    public void setMaxDepth(int maxDepth) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("Max depth should be positive, but was " + maxDepth);
+        }
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * @return the maximum number of folder levels which are searched for JSON files
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Describe whether the aggregated report is printed in console after it was written
+     * @param consoleEcho false to write the report to the file only
+     */
+    public void setConsoleEcho(boolean consoleEcho) {
+        this.consoleEcho = consoleEcho;
+    }
+
+    /**
+     * @return true when the aggregated report is printed in console
+     */
+    public boolean isConsoleEcho() {
+        return consoleEcho;
+    }
+
+    /**
+     * Describe how many features could be parsed but not written yet in {@link ConfigureXMLMode#STREAMING_PIPELINE}.
+     * Parsing waits when the limit is reached
+     * @param pipelineCapacity the maximum quantity of features between parsing and writing
+     */
+    public void setPipelineCapacity(int pipelineCapacity) {
+        if (pipelineCapacity < 1) {
+            throw new IllegalArgumentException("Pipeline capacity should be positive, but was " + pipelineCapacity);
+        }
+        this.pipelineCapacity = pipelineCapacity;
+    }
+
+    /**
+     * @return the maximum quantity of features between parsing and writing in pipeline
+     */
+    public int getPipelineCapacity() {
+        return pipelineCapacity;
+    }
+
+    /**
+     * Describe how strong the archive is compressed with {@link ConfigureXMLMode#ZIP_XML_RESULT_TO_FILE}.
+     * Lower levels are faster, 0 stores the report without compression
+     * @param zipCompressionLevel level of compression from 0 to 9 or {@link Deflater#DEFAULT_COMPRESSION}
+     */
+    public void setZipCompressionLevel(int zipCompressionLevel) {
+        if (zipCompressionLevel != Deflater.DEFAULT_COMPRESSION
+                && (zipCompressionLevel < Deflater.NO_COMPRESSION || zipCompressionLevel > Deflater.BEST_COMPRESSION)) {
+            throw new IllegalArgumentException("Compression level should be from 0 to 9, but was " + zipCompressionLevel);
+        }
+        this.zipCompressionLevel = zipCompressionLevel;
+    }
+
+    /**
+     * @return level of compression of the archive
+     */
+    public int getZipCompressionLevel() {
+        return zipCompressionLevel;
+    }
 }
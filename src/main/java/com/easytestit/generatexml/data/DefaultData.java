@@ -9,4 +9,5 @@ public class DefaultData {
     public static final String TARGET_FOLDER_PATH = "target/surefire-reports/";
     public static final String REPORT_RESULTS_FOLDER = "out/xml-reports/";
     public static final String FILE_ZIP_NAME = "zipAggregatedReport.zip";
+    public static final String CACHE_FOLDER = "out/xml-reports-cache/";
 }
@@ -6,6 +6,7 @@ import com.google.gson.annotations.SerializedName;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
+import lombok.Setter;
 
 import java.util.List;
 
@@ -15,6 +16,7 @@ import java.util.List;
  */
 @NoArgsConstructor
 @Getter
+@Setter
 public class Feature {
 
     @NonNull
@@ -6,11 +6,13 @@ import com.easytestit.generatexml.dto.input.elements.steps.Step;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
+import lombok.Setter;
 
 import java.util.List;
 
 @NoArgsConstructor
 @Getter
+@Setter
 public class Element {
 
     @NonNull
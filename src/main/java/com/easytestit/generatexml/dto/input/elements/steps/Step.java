@@ -7,9 +7,11 @@ import com.easytestit.generatexml.dto.input.elements.steps.result.Result;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
+import lombok.Setter;
 
 @NoArgsConstructor
 @Getter
+@Setter
 public class Step {
 
     @NonNull
@@ -3,10 +3,12 @@ package com.easytestit.generatexml.dto.input.elements.steps.docstring;
 import com.google.gson.annotations.SerializedName;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
+import lombok.Setter;
 import lombok.Getter;
 
 @NoArgsConstructor
 @Getter
+@Setter
 public class DocString {
 
     @NonNull
@@ -4,9 +4,11 @@ import com.google.gson.annotations.SerializedName;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
+import lombok.Setter;
 
 @NoArgsConstructor
 @Getter
+@Setter
 public class Result {
 
     @NonNull
@@ -19,6 +21,6 @@ public class Result {
 
     @NonNull
     @SerializedName("status")
-    private String status;
+    private Status status;
 
 }
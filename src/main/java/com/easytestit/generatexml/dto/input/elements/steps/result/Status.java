@@ -0,0 +1,68 @@
+package com.easytestit.generatexml.dto.input.elements.steps.result;
+
+import com.google.gson.annotations.SerializedName;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Status of the step which is written by Cucumber in JSON report
+ */
+public enum Status {
+
+    @SerializedName("passed")
+    PASSED("passed"),
+    @SerializedName("failed")
+    FAILED("failed"),
+    @SerializedName("skipped")
+    SKIPPED("skipped"),
+    @SerializedName("pending")
+    PENDING("pending"),
+    @SerializedName("undefined")
+    UNDEFINED("undefined"),
+    @SerializedName("ambiguous")
+    AMBIGUOUS("ambiguous"),
+    /**
+     * Any status which isn't known by the application
+     */
+    UNKNOWN("unknown");
+
+    private String value;
+
+    @Contract(pure = true)
+    Status(String str) {
+        value = str;
+    }
+
+    @Contract(pure = true)
+    public String getValue() {
+        return this.value;
+    }
+
+    /**
+     * Map status value from JSON report to enum constant without creating intermediate objects
+     * @param value status value from JSON report
+     * @return enum constant or {@link #UNKNOWN} when value isn't known
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static Status fromValue(@Nullable String value) {
+        if (value == null) return UNKNOWN;
+        switch (value) {
+            case "passed":
+                return PASSED;
+            case "failed":
+                return FAILED;
+            case "skipped":
+                return SKIPPED;
+            case "pending":
+                return PENDING;
+            case "undefined":
+                return UNDEFINED;
+            case "ambiguous":
+                return AMBIGUOUS;
+            default:
+                return UNKNOWN;
+        }
+    }
+}
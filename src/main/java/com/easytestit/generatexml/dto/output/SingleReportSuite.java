@@ -2,13 +2,18 @@ package com.easytestit.generatexml.dto.output;
 
 import com.easytestit.generatexml.dto.output.properties.SuiteProperties;
 import com.easytestit.generatexml.dto.output.testcase.TestCase;
+import com.easytestit.generatexml.utils.SecondsAdapter;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import java.util.Collection;
 
 /**
@@ -16,8 +21,10 @@ import java.util.Collection;
  * It can also be the root element
  */
 @NoArgsConstructor
+@Getter
 @NonNull
 @XmlRootElement(name = "testsuite")
+@XmlAccessorType(XmlAccessType.FIELD)
 public class SingleReportSuite {
 
     /**
@@ -31,27 +38,27 @@ public class SingleReportSuite {
      * The total number of tests in the suite
      */
     @XmlAttribute(name = "tests", required = true)
-    private String tests;
+    private int tests;
 
     /**
      * The total number of disabled tests in the suite
      */
     @XmlAttribute(name = "disabled")
-    private String disabled;
+    private Integer disabled;
 
     /**
      * The total number of tests in the suite that errored. An errored test is one that had an unanticipated problem,
      * for example an unchecked throwable; or a problem with the implementation of the test
      */
     @XmlAttribute(name = "errors")
-    private String errors;
+    private int errors;
 
     /**
      * The total number of tests in the suite that failed. A failure is a test which the code has explicitly failed
      * by using the mechanisms for that purpose. e.g., via an assertEquals
      */
     @XmlAttribute(name = "failures")
-    private String failures;
+    private int failures;
 
     /**
      * Host on which the tests were executed. 'localhost' should be used if the hostname cannot be determined
@@ -63,7 +70,7 @@ public class SingleReportSuite {
      * Starts at 0 for the first testsuite and is incremented by 1 for each following testsuite
      */
     @XmlAttribute(name = "id")
-    private String id;
+    private int id;
 
     /**
      * Derived from testsuite/@name in the non-aggregated documents
@@ -75,13 +82,14 @@ public class SingleReportSuite {
      * The total number of skipped tests
      */
     @XmlAttribute(name = "skipped")
-    private String skipped;
+    private Integer skipped;
 
     /**
-     * Time taken (in seconds) to execute the tests in the suite
+     * Time taken (in seconds) to execute the tests in the suite, it is kept in nanoseconds
      */
     @XmlAttribute(name = "time")
-    private String time;
+    @XmlJavaTypeAdapter(SecondsAdapter.class)
+    private Long time;
 
     /**
      * When the test was executed in ISO 8601 format (2014-01-21T16:17:18). Timezone may not be specified
@@ -125,22 +133,22 @@ public class SingleReportSuite {
         return this;
     }
 
-    public SingleReportSuite setTests(String tests) {
+    public SingleReportSuite setTests(int tests) {
         this.tests = tests;
         return this;
     }
 
-    public SingleReportSuite setDisabled(String disabled) {
+    public SingleReportSuite setDisabled(Integer disabled) {
         this.disabled = disabled;
         return this;
     }
 
-    public SingleReportSuite setErrors(String errors) {
+    public SingleReportSuite setErrors(int errors) {
         this.errors = errors;
         return this;
     }
 
-    public SingleReportSuite setFailures(String failures) {
+    public SingleReportSuite setFailures(int failures) {
         this.failures = failures;
         return this;
     }
@@ -150,7 +158,7 @@ public class SingleReportSuite {
         return this;
     }
 
-    public SingleReportSuite setId(String id) {
+    public SingleReportSuite setId(int id) {
         this.id = id;
         return this;
     }
@@ -160,12 +168,12 @@ public class SingleReportSuite {
         return this;
     }
 
-    public SingleReportSuite setSkipped(String skipped) {
+    public SingleReportSuite setSkipped(Integer skipped) {
         this.skipped = skipped;
         return this;
     }
 
-    public SingleReportSuite setTime(String time) {
+    public SingleReportSuite setTime(Long time) {
         this.time = time;
         return this;
     }
@@ -1,10 +1,15 @@
 package com.easytestit.generatexml.dto.output;
 
+import com.easytestit.generatexml.utils.SecondsAdapter;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import java.util.Collection;
 
 /**
@@ -12,7 +17,9 @@ import java.util.Collection;
  * element can be omitted. All attributes are optional.
  */
 @NoArgsConstructor
+@Getter
 @XmlRootElement(name = "testsuites")
+@XmlAccessorType(XmlAccessType.FIELD)
 public class XMLReport {
 
     /**
@@ -25,19 +32,19 @@ public class XMLReport {
      * Total number of disabled tests from all testsuites
      */
     @XmlAttribute(name = "disabled")
-    private String disabled;
+    private Integer disabled;
 
     /**
      * Total number of tests with error result from all testsuites
      */
     @XmlAttribute(name = "errors")
-    private String errors;
+    private int errors;
 
     /**
      * Total number of failed tests from all testsuites
      */
     @XmlAttribute(name = "failures")
-    private String failures;
+    private int failures;
 
     @XmlAttribute(name = "name")
     private String name;
@@ -46,13 +53,14 @@ public class XMLReport {
      * Total number of successful tests from all testsuites
      */
     @XmlAttribute(name = "tests")
-    private String tests;
+    private int tests;
 
     /**
-     * Time in seconds to execute all test suites
+     * Time in seconds to execute all test suites, it is kept in nanoseconds
      */
     @XmlAttribute(name = "time")
-    private String time;
+    @XmlJavaTypeAdapter(SecondsAdapter.class)
+    private Long time;
 
     /**
      * Child testsuite element, if the report has quantity runs more than 1
@@ -65,17 +73,17 @@ public class XMLReport {
         return this;
     }
 
-    public XMLReport setDisabled(String disabled) {
+    public XMLReport setDisabled(Integer disabled) {
         this.disabled = disabled;
         return this;
     }
 
-    public XMLReport setErrors(String errors) {
+    public XMLReport setErrors(int errors) {
         this.errors = errors;
         return this;
     }
 
-    public XMLReport setFailures(String failures) {
+    public XMLReport setFailures(int failures) {
         this.failures = failures;
         return this;
     }
@@ -85,12 +93,12 @@ public class XMLReport {
         return this;
     }
 
-    public XMLReport setTests(String tests) {
+    public XMLReport setTests(int tests) {
         this.tests = tests;
         return this;
     }
 
-    public XMLReport setTime(String time) {
+    public XMLReport setTime(Long time) {
         this.time = time;
         return this;
     }
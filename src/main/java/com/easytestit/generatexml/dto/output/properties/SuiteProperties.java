@@ -1,9 +1,12 @@
 package com.easytestit.generatexml.dto.output.properties;
 
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import lombok.Setter;
 
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -14,9 +17,11 @@ import javax.xml.bind.annotation.XmlRootElement;
  * Property can appear multiple times. The name and value attributres are required
  */
 @NoArgsConstructor
+@Getter
 @NonNull
 @Setter
 @XmlRootElement(name = "property")
+@XmlAccessorType(XmlAccessType.FIELD)
 public class SuiteProperties {
 
     @XmlAttribute(name = "name", required = true)
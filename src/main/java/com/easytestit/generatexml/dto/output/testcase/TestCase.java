@@ -1,18 +1,25 @@
 package com.easytestit.generatexml.dto.output.testcase;
 
+import com.easytestit.generatexml.utils.SecondsAdapter;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
 /**
  * Testcase can appear multiple times, see /testsuites/testsuite@tests
  */
 @NoArgsConstructor
+@Getter
 @NonNull
 @XmlRootElement(name = "testcase")
+@XmlAccessorType(XmlAccessType.FIELD)
 public class TestCase {
 
     /**
@@ -25,7 +32,7 @@ public class TestCase {
      * Number of assertions in the test case
      */
     @XmlAttribute(name = "assertions")
-    private String assertionsMessage;
+    private Integer assertionsMessage;
 
     /**
      * Name of the test method
@@ -37,10 +44,11 @@ public class TestCase {
     private String status;
 
     /**
-     * Time taken (in seconds) to execute the test
+     * Time taken (in seconds) to execute the test, it is kept in nanoseconds
      */
     @XmlAttribute(name = "time")
-    private String time;
+    @XmlJavaTypeAdapter(SecondsAdapter.class)
+    private Long time;
 
     @XmlAttribute(name = "description")
     private String description;
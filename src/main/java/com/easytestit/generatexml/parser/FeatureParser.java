@@ -0,0 +1,25 @@
+package com.easytestit.generatexml.parser;
+
+import com.easytestit.generatexml.dto.input.Feature;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Service provider interface of the backend which deserializes Cucumber JSON report to Java Objects.
+ * Implementation is selected by {@link com.easytestit.generatexml.configuration.ConfigureXMLReport#setFeatureParser(FeatureParser)}
+ * and should be thread-safe, because the same instance parses many files in parallel mode
+ */
+public interface FeatureParser {
+
+    /**
+     * Read the root array of Cucumber JSON report and pass every feature to the consumer right after it was read
+     * @param in UTF-8 stream with Cucumber JSON report, it isn't closed by parser
+     * @param featureConsumer the consumer which receives deserialized features one by one
+     * @return the quantity of read features
+     * @throws IOException when JSON document is malformed or can't be read
+     */
+    int parse(@NotNull InputStream in, @NotNull Consumer<Feature> featureConsumer) throws IOException;
+}
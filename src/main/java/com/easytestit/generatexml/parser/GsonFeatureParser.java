@@ -0,0 +1,74 @@
+package com.easytestit.generatexml.parser;
+
+import com.easytestit.generatexml.dto.input.Feature;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Default {@link FeatureParser} which reads JSON report token by token with Gson {@link JsonReader}.
+ * Features are deserialized by adapters from {@link InputTypeAdapterFactory} which are created once
+ * and shared by all instances of parser
+ */
+public class GsonFeatureParser implements FeatureParser {
+
+    private static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapterFactory(new InputTypeAdapterFactory())
+            .create();
+    private static final TypeAdapter<Feature> FEATURE_ADAPTER = GSON.getAdapter(Feature.class);
+
+    private final ProjectionFeatureReader projectionFeatureReader;
+
+    /**
+     * Create parser which deserializes all values of features
+     */
+    public GsonFeatureParser() {
+        this(false);
+    }
+
+    /**
+     * @param projection when true only values which are used in XML report are read, see {@link ProjectionFeatureReader}
+     */
+    public GsonFeatureParser(boolean projection) {
+        this.projectionFeatureReader = projection ? new ProjectionFeatureReader() : null;
+    }
+
+    @Override
+    public int parse(@NotNull InputStream in, @NotNull Consumer<Feature> featureConsumer) throws IOException {
+        var reader = new JsonReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            throw new IOException("Root element of Cucumber JSON report should be an array");
+        }
+
+        var featuresCount = 0;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            featureConsumer.accept(readFeature(reader));
+            featuresCount += 1;
+        }
+        reader.endArray();
+        return featuresCount;
+    }
+
+    @NotNull
+    private Feature readFeature(@NotNull JsonReader reader) throws IOException {
+        try {
+            return projectionFeatureReader != null
+                    ? projectionFeatureReader.readFeature(reader)
+                    : FEATURE_ADAPTER.read(reader);
+        } catch (IllegalStateException | NumberFormatException e) {
+            //JSON document has unexpected structure, e.g. string where an object is expected
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,451 @@
+package com.easytestit.generatexml.parser;
+
+import com.easytestit.generatexml.dto.input.Feature;
+import com.easytestit.generatexml.dto.input.elements.Element;
+import com.easytestit.generatexml.dto.input.elements.steps.Step;
+import com.easytestit.generatexml.dto.input.elements.steps.docstring.DocString;
+import com.easytestit.generatexml.dto.input.elements.steps.match.Match;
+import com.easytestit.generatexml.dto.input.elements.steps.result.Result;
+import com.easytestit.generatexml.dto.input.elements.steps.result.Status;
+import com.easytestit.generatexml.dto.input.tags.Tag;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Factory of hand-written Gson adapters for classes of {@code dto.input} package.
+ * Adapters read and write fields directly through getters and setters, so Gson doesn't use reflection for these classes.
+ * Adapters are stateless and can be shared between threads together with {@link Gson} instance where they are registered
+ */
+public class InputTypeAdapterFactory implements TypeAdapterFactory {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, @NotNull TypeToken<T> type) {
+        var rawType = type.getRawType();
+        if (rawType == Feature.class) return (TypeAdapter<T>) new FeatureAdapter(gson);
+        if (rawType == Element.class) return (TypeAdapter<T>) new ElementAdapter(gson);
+        if (rawType == Step.class) return (TypeAdapter<T>) new StepAdapter(gson);
+        if (rawType == Result.class) return (TypeAdapter<T>) new ResultAdapter();
+        if (rawType == DocString.class) return (TypeAdapter<T>) new DocStringAdapter();
+        if (rawType == Match.class) return (TypeAdapter<T>) new MatchAdapter(gson);
+        if (rawType == Tag.class) return (TypeAdapter<T>) new TagAdapter();
+        return null;
+    }
+
+    private static final class FeatureAdapter extends TypeAdapter<Feature> {
+
+        private final TypeAdapter<Element> elementAdapter;
+        private final TypeAdapter<Tag> tagAdapter;
+
+        FeatureAdapter(Gson gson) {
+            this.elementAdapter = gson.getAdapter(Element.class);
+            this.tagAdapter = gson.getAdapter(Tag.class);
+        }
+
+        @Override
+        public Feature read(JsonReader in) throws IOException {
+            if (isNull(in)) return null;
+            var feature = new Feature();
+            in.beginObject();
+            while (in.hasNext()) {
+                var name = in.nextName();
+                if (isNull(in)) continue;
+                switch (name) {
+                    case "line":
+                        feature.setLine(in.nextInt());
+                        break;
+                    case "elements":
+                        feature.setElements(readList(in, elementAdapter));
+                        break;
+                    case "name":
+                        feature.setName(in.nextString());
+                        break;
+                    case "description":
+                        feature.setDescription(in.nextString());
+                        break;
+                    case "id":
+                        feature.setId(in.nextString());
+                        break;
+                    case "keyword":
+                        feature.setKeyword(in.nextString());
+                        break;
+                    case "uri":
+                        feature.setUri(in.nextString());
+                        break;
+                    case "tags":
+                        feature.setTags(readList(in, tagAdapter));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return feature;
+        }
+
+        @Override
+        public void write(JsonWriter out, Feature feature) throws IOException {
+            if (feature == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("line").value(feature.getLine());
+            writeList(out.name("elements"), feature.getElements(), elementAdapter);
+            out.name("name").value(feature.getName());
+            out.name("description").value(feature.getDescription());
+            out.name("id").value(feature.getId());
+            out.name("keyword").value(feature.getKeyword());
+            out.name("uri").value(feature.getUri());
+            writeList(out.name("tags"), feature.getTags(), tagAdapter);
+            out.endObject();
+        }
+    }
+
+    private static final class ElementAdapter extends TypeAdapter<Element> {
+
+        private final TypeAdapter<Step> stepAdapter;
+        private final TypeAdapter<Tag> tagAdapter;
+
+        ElementAdapter(Gson gson) {
+            this.stepAdapter = gson.getAdapter(Step.class);
+            this.tagAdapter = gson.getAdapter(Tag.class);
+        }
+
+        @Override
+        public Element read(JsonReader in) throws IOException {
+            if (isNull(in)) return null;
+            var element = new Element();
+            in.beginObject();
+            while (in.hasNext()) {
+                var name = in.nextName();
+                if (isNull(in)) continue;
+                switch (name) {
+                    case "line":
+                        element.setLine(in.nextInt());
+                        break;
+                    case "name":
+                        element.setName(in.nextString());
+                        break;
+                    case "description":
+                        element.setDescription(in.nextString());
+                        break;
+                    case "id":
+                        element.setId(in.nextString());
+                        break;
+                    case "type":
+                        element.setType(in.nextString());
+                        break;
+                    case "keyword":
+                        element.setKeyword(in.nextString());
+                        break;
+                    case "steps":
+                        element.setSteps(readList(in, stepAdapter));
+                        break;
+                    case "tags":
+                        element.setTags(readList(in, tagAdapter));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return element;
+        }
+
+        @Override
+        public void write(JsonWriter out, Element element) throws IOException {
+            if (element == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("line").value(element.getLine());
+            out.name("name").value(element.getName());
+            out.name("description").value(element.getDescription());
+            out.name("id").value(element.getId());
+            out.name("type").value(element.getType());
+            out.name("keyword").value(element.getKeyword());
+            writeList(out.name("steps"), element.getSteps(), stepAdapter);
+            writeList(out.name("tags"), element.getTags(), tagAdapter);
+            out.endObject();
+        }
+    }
+
+    private static final class StepAdapter extends TypeAdapter<Step> {
+
+        private final TypeAdapter<Result> resultAdapter;
+        private final TypeAdapter<Match> matchAdapter;
+        private final TypeAdapter<DocString> docStringAdapter;
+
+        StepAdapter(Gson gson) {
+            this.resultAdapter = gson.getAdapter(Result.class);
+            this.matchAdapter = gson.getAdapter(Match.class);
+            this.docStringAdapter = gson.getAdapter(DocString.class);
+        }
+
+        @Override
+        public Step read(JsonReader in) throws IOException {
+            if (isNull(in)) return null;
+            var step = new Step();
+            in.beginObject();
+            while (in.hasNext()) {
+                var name = in.nextName();
+                if (isNull(in)) continue;
+                switch (name) {
+                    case "name":
+                        step.setName(in.nextString());
+                        break;
+                    case "result":
+                        step.setResult(resultAdapter.read(in));
+                        break;
+                    case "match":
+                        step.setMatch(matchAdapter.read(in));
+                        break;
+                    case "keyword":
+                        step.setKeyword(in.nextString());
+                        break;
+                    case "line":
+                        step.setLine(in.nextInt());
+                        break;
+                    case "doc_string":
+                        step.setDocString(docStringAdapter.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return step;
+        }
+
+        @Override
+        public void write(JsonWriter out, Step step) throws IOException {
+            if (step == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("name").value(step.getName());
+            resultAdapter.write(out.name("result"), step.getResult());
+            matchAdapter.write(out.name("match"), step.getMatch());
+            out.name("keyword").value(step.getKeyword());
+            out.name("line").value(step.getLine());
+            docStringAdapter.write(out.name("doc_string"), step.getDocString());
+            out.endObject();
+        }
+    }
+
+    private static final class ResultAdapter extends TypeAdapter<Result> {
+
+        @Override
+        public Result read(JsonReader in) throws IOException {
+            if (isNull(in)) return null;
+            var result = new Result();
+            in.beginObject();
+            while (in.hasNext()) {
+                var name = in.nextName();
+                if (isNull(in)) continue;
+                switch (name) {
+                    case "duration":
+                        result.setDuration(in.nextLong());
+                        break;
+                    case "error_message":
+                        result.setErrorMessage(in.nextString());
+                        break;
+                    case "status":
+                        result.setStatus(Status.fromValue(in.nextString()));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return result;
+        }
+
+        @Override
+        public void write(JsonWriter out, Result result) throws IOException {
+            if (result == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("duration").value(result.getDuration());
+            out.name("error_message").value(result.getErrorMessage());
+            out.name("status").value(result.getStatus() == null ? null : result.getStatus().getValue());
+            out.endObject();
+        }
+    }
+
+    private static final class DocStringAdapter extends TypeAdapter<DocString> {
+
+        @Override
+        public DocString read(JsonReader in) throws IOException {
+            if (isNull(in)) return null;
+            var docString = new DocString();
+            in.beginObject();
+            while (in.hasNext()) {
+                var name = in.nextName();
+                if (isNull(in)) continue;
+                switch (name) {
+                    case "content_type":
+                        docString.setContentType(in.nextString());
+                        break;
+                    case "value":
+                        docString.setValue(in.nextString());
+                        break;
+                    case "line":
+                        docString.setLine(in.nextInt());
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return docString;
+        }
+
+        @Override
+        public void write(JsonWriter out, DocString docString) throws IOException {
+            if (docString == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("content_type").value(docString.getContentType());
+            out.name("value").value(docString.getValue());
+            out.name("line").value(docString.getLine());
+            out.endObject();
+        }
+    }
+
+    private static final class MatchAdapter extends TypeAdapter<Match> {
+
+        private final TypeAdapter<Object> argumentAdapter;
+
+        MatchAdapter(Gson gson) {
+            this.argumentAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public Match read(JsonReader in) throws IOException {
+            if (isNull(in)) return null;
+            var match = new Match();
+            in.beginObject();
+            while (in.hasNext()) {
+                var name = in.nextName();
+                if (isNull(in)) continue;
+                switch (name) {
+                    case "location":
+                        match.setLocation(in.nextString());
+                        break;
+                    case "arguments":
+                        match.setArguments(readList(in, argumentAdapter));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return match;
+        }
+
+        @Override
+        public void write(JsonWriter out, Match match) throws IOException {
+            if (match == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("location").value(match.getLocation());
+            writeList(out.name("arguments"), match.getArguments(), argumentAdapter);
+            out.endObject();
+        }
+    }
+
+    private static final class TagAdapter extends TypeAdapter<Tag> {
+
+        @Override
+        public Tag read(JsonReader in) throws IOException {
+            if (isNull(in)) return null;
+            var tag = new Tag();
+            in.beginObject();
+            while (in.hasNext()) {
+                var name = in.nextName();
+                if (isNull(in)) continue;
+                switch (name) {
+                    case "name":
+                        tag.setName(in.nextString());
+                        break;
+                    case "line":
+                        tag.setLine(in.nextInt());
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return tag;
+        }
+
+        @Override
+        public void write(JsonWriter out, Tag tag) throws IOException {
+            if (tag == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("name").value(tag.getName());
+            out.name("line").value(tag.getLine());
+            out.endObject();
+        }
+    }
+
+    /**
+     * Consume JSON null, so the field stays unset as it would be after reflective deserialization
+     * @param in reader which is positioned on the value
+     * @return true when the value is null and was consumed
+     * @throws IOException when JSON document is malformed or can't be read
+     */
+    private static boolean isNull(@NotNull JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return true;
+        }
+        return false;
+    }
+
+    @NotNull
+    private static <T> List<T> readList(@NotNull JsonReader in, @NotNull TypeAdapter<T> itemAdapter) throws IOException {
+        List<T> items = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            items.add(itemAdapter.read(in));
+        }
+        in.endArray();
+        return items;
+    }
+
+    private static <T> void writeList(@NotNull JsonWriter out, List<T> items, @NotNull TypeAdapter<T> itemAdapter) throws IOException {
+        if (items == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (T item : items) {
+            itemAdapter.write(out, item);
+        }
+        out.endArray();
+    }
+}
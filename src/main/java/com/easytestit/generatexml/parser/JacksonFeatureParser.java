@@ -0,0 +1,286 @@
+package com.easytestit.generatexml.parser;
+
+import com.easytestit.generatexml.dto.input.Feature;
+import com.easytestit.generatexml.dto.input.elements.Element;
+import com.easytestit.generatexml.dto.input.elements.steps.Step;
+import com.easytestit.generatexml.dto.input.elements.steps.docstring.DocString;
+import com.easytestit.generatexml.dto.input.elements.steps.match.Match;
+import com.easytestit.generatexml.dto.input.elements.steps.result.Result;
+import com.easytestit.generatexml.dto.input.elements.steps.result.Status;
+import com.easytestit.generatexml.dto.input.tags.Tag;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@link FeatureParser} which reads JSON report token by token with Jackson streaming {@link JsonParser}.
+ * Jackson decodes string value only when it's requested, so values which aren't read are skipped without building strings
+ */
+public class JacksonFeatureParser implements FeatureParser {
+
+    private static final JsonFactory JSON_FACTORY = new ObjectMapper()
+            .getFactory()
+            .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    private static final TypeReference<List<Object>> ARGUMENTS_TYPE = new TypeReference<>() {};
+
+    private final boolean projection;
+
+    /**
+     * Create parser which deserializes all values of features
+     */
+    public JacksonFeatureParser() {
+        this(false);
+    }
+
+    /**
+     * @param projection when true only values which are used in XML report are read, the same as {@link ProjectionFeatureReader} does
+     */
+    public JacksonFeatureParser(boolean projection) {
+        this.projection = projection;
+    }
+
+    @Override
+    public int parse(@NotNull InputStream in, @NotNull Consumer<Feature> featureConsumer) throws IOException {
+        try (var parser = JSON_FACTORY.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Root element of Cucumber JSON report should be an array");
+            }
+
+            var featuresCount = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                featureConsumer.accept(readFeature(parser));
+                featuresCount += 1;
+            }
+            return featuresCount;
+        }
+    }
+
+    @NotNull
+    private Feature readFeature(@NotNull JsonParser parser) throws IOException {
+        var feature = new Feature();
+        while (nextField(parser)) {
+            switch (parser.getCurrentName()) {
+                case "name":
+                    feature.setName(parser.getText());
+                    break;
+                case "description":
+                    feature.setDescription(parser.getText());
+                    break;
+                case "tags":
+                    feature.setTags(readList(parser, this::readTag));
+                    break;
+                case "elements":
+                    feature.setElements(readList(parser, this::readElement));
+                    break;
+                case "line":
+                    if (!projection) feature.setLine(parser.getIntValue());
+                    break;
+                case "id":
+                    if (!projection) feature.setId(parser.getText());
+                    break;
+                case "keyword":
+                    if (!projection) feature.setKeyword(parser.getText());
+                    break;
+                case "uri":
+                    if (!projection) feature.setUri(parser.getText());
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return feature;
+    }
+
+    @NotNull
+    private Element readElement(@NotNull JsonParser parser) throws IOException {
+        var element = new Element();
+        while (nextField(parser)) {
+            switch (parser.getCurrentName()) {
+                case "line":
+                    element.setLine(parser.getIntValue());
+                    break;
+                case "name":
+                    element.setName(parser.getText());
+                    break;
+                case "keyword":
+                    element.setKeyword(parser.getText());
+                    break;
+                case "tags":
+                    element.setTags(readList(parser, this::readTag));
+                    break;
+                case "steps":
+                    element.setSteps(readList(parser, this::readStep));
+                    break;
+                case "description":
+                    if (!projection) element.setDescription(parser.getText());
+                    break;
+                case "id":
+                    if (!projection) element.setId(parser.getText());
+                    break;
+                case "type":
+                    if (!projection) element.setType(parser.getText());
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return element;
+    }
+
+    @NotNull
+    private Step readStep(@NotNull JsonParser parser) throws IOException {
+        var step = new Step();
+        while (nextField(parser)) {
+            switch (parser.getCurrentName()) {
+                case "name":
+                    step.setName(parser.getText());
+                    break;
+                case "keyword":
+                    step.setKeyword(parser.getText());
+                    break;
+                case "result":
+                    step.setResult(readResult(parser));
+                    break;
+                case "doc_string":
+                    step.setDocString(readDocString(parser));
+                    break;
+                case "line":
+                    if (!projection) step.setLine(parser.getIntValue());
+                    break;
+                case "match":
+                    if (projection) parser.skipChildren();
+                    else step.setMatch(readMatch(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return step;
+    }
+
+    @NotNull
+    private Result readResult(@NotNull JsonParser parser) throws IOException {
+        var result = new Result();
+        while (nextField(parser)) {
+            switch (parser.getCurrentName()) {
+                case "status":
+                    result.setStatus(Status.fromValue(parser.getText()));
+                    break;
+                case "duration":
+                    result.setDuration(parser.getLongValue());
+                    break;
+                case "error_message":
+                    result.setErrorMessage(parser.getText());
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    @NotNull
+    private DocString readDocString(@NotNull JsonParser parser) throws IOException {
+        var docString = new DocString();
+        while (nextField(parser)) {
+            switch (parser.getCurrentName()) {
+                case "value":
+                    docString.setValue(parser.getText());
+                    break;
+                case "content_type":
+                    if (!projection) docString.setContentType(parser.getText());
+                    break;
+                case "line":
+                    if (!projection) docString.setLine(parser.getIntValue());
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return docString;
+    }
+
+    @NotNull
+    private Match readMatch(@NotNull JsonParser parser) throws IOException {
+        var match = new Match();
+        while (nextField(parser)) {
+            switch (parser.getCurrentName()) {
+                case "location":
+                    match.setLocation(parser.getText());
+                    break;
+                case "arguments":
+                    match.setArguments(parser.readValueAs(ARGUMENTS_TYPE));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return match;
+    }
+
+    @NotNull
+    private Tag readTag(@NotNull JsonParser parser) throws IOException {
+        var tag = new Tag();
+        while (nextField(parser)) {
+            switch (parser.getCurrentName()) {
+                case "name":
+                    tag.setName(parser.getText());
+                    break;
+                case "line":
+                    if (!projection) tag.setLine(parser.getIntValue());
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return tag;
+    }
+
+    /**
+     * Move parser to the value of the next field of current object. Fields with null value are passed over,
+     * so the field of DTO stays unset as it would be after reflective deserialization
+     * @param parser parser which is positioned inside of object
+     * @return false when the end of object was reached
+     * @throws IOException when JSON document is malformed or can't be read
+     */
+    private boolean nextField(@NotNull JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            if (parser.nextToken() != JsonToken.VALUE_NULL) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Read JSON array where every object item is read by specified reader
+     * @param parser parser which is positioned on the start of array
+     * @param itemReader reader of single item
+     * @param <T> the type of items
+     * @return list with all read items
+     * @throws IOException when JSON document is malformed or can't be read
+     */
+    @NotNull
+    private <T> List<T> readList(@NotNull JsonParser parser, @NotNull ItemReader<T> itemReader) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new IOException("Expected array for field '" + parser.getCurrentName() + "'");
+        }
+        List<T> items = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            items.add(itemReader.read(parser));
+        }
+        return items;
+    }
+
+    @FunctionalInterface
+    private interface ItemReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+}
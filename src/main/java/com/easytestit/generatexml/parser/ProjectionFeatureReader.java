@@ -0,0 +1,202 @@
+package com.easytestit.generatexml.parser;
+
+import com.easytestit.generatexml.dto.input.Feature;
+import com.easytestit.generatexml.dto.input.elements.Element;
+import com.easytestit.generatexml.dto.input.elements.steps.Step;
+import com.easytestit.generatexml.dto.input.elements.steps.docstring.DocString;
+import com.easytestit.generatexml.dto.input.elements.steps.result.Result;
+import com.easytestit.generatexml.dto.input.elements.steps.result.Status;
+import com.easytestit.generatexml.dto.input.tags.Tag;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reader which deserializes from Cucumber JSON report only values which are used for building XML report.
+ * All other values (match, embeddings, output, rows, descriptions of scenarios and so on) are skipped
+ * by {@link JsonReader#skipValue()} on the lexer level, so no strings are built for them
+ */
+public class ProjectionFeatureReader {
+
+    /**
+     * Read one feature object from the current position of reader
+     * @param in reader which is positioned on the start of feature object
+     * @return feature object with values which are needed for XML report
+     * @throws IOException when JSON document is malformed or can't be read
+     */
+    @NotNull
+    public Feature readFeature(@NotNull JsonReader in) throws IOException {
+        var feature = new Feature();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "name":
+                    if (hasValue(in)) feature.setName(in.nextString());
+                    break;
+                case "description":
+                    if (hasValue(in)) feature.setDescription(in.nextString());
+                    break;
+                case "tags":
+                    if (hasValue(in)) feature.setTags(readList(in, this::readTag));
+                    break;
+                case "elements":
+                    if (hasValue(in)) feature.setElements(readList(in, this::readElement));
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return feature;
+    }
+
+    @NotNull
+    private Element readElement(@NotNull JsonReader in) throws IOException {
+        var element = new Element();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "line":
+                    if (hasValue(in)) element.setLine(in.nextInt());
+                    break;
+                case "name":
+                    if (hasValue(in)) element.setName(in.nextString());
+                    break;
+                case "keyword":
+                    if (hasValue(in)) element.setKeyword(in.nextString());
+                    break;
+                case "tags":
+                    if (hasValue(in)) element.setTags(readList(in, this::readTag));
+                    break;
+                case "steps":
+                    if (hasValue(in)) element.setSteps(readList(in, this::readStep));
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return element;
+    }
+
+    @NotNull
+    private Step readStep(@NotNull JsonReader in) throws IOException {
+        var step = new Step();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "name":
+                    if (hasValue(in)) step.setName(in.nextString());
+                    break;
+                case "keyword":
+                    if (hasValue(in)) step.setKeyword(in.nextString());
+                    break;
+                case "result":
+                    if (hasValue(in)) step.setResult(readResult(in));
+                    break;
+                case "doc_string":
+                    if (hasValue(in)) step.setDocString(readDocString(in));
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return step;
+    }
+
+    @NotNull
+    private Result readResult(@NotNull JsonReader in) throws IOException {
+        var result = new Result();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "status":
+                    if (hasValue(in)) result.setStatus(Status.fromValue(in.nextString()));
+                    break;
+                case "duration":
+                    if (hasValue(in)) result.setDuration(in.nextLong());
+                    break;
+                case "error_message":
+                    if (hasValue(in)) result.setErrorMessage(in.nextString());
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return result;
+    }
+
+    @NotNull
+    private DocString readDocString(@NotNull JsonReader in) throws IOException {
+        var docString = new DocString();
+        in.beginObject();
+        while (in.hasNext()) {
+            if ("value".equals(in.nextName()) && hasValue(in)) {
+                docString.setValue(in.nextString());
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+        return docString;
+    }
+
+    @NotNull
+    private Tag readTag(@NotNull JsonReader in) throws IOException {
+        var tag = new Tag();
+        in.beginObject();
+        while (in.hasNext()) {
+            if ("name".equals(in.nextName()) && hasValue(in)) {
+                tag.setName(in.nextString());
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+        return tag;
+    }
+
+    /**
+     * Read JSON array where every item is read by specified reader
+     * @param in reader which is positioned on the start of array
+     * @param itemReader reader of single item
+     * @param <T> the type of items
+     * @return list with all read items
+     * @throws IOException when JSON document is malformed or can't be read
+     */
+    @NotNull
+    private <T> List<T> readList(@NotNull JsonReader in, @NotNull ItemReader<T> itemReader) throws IOException {
+        List<T> items = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            items.add(itemReader.read(in));
+        }
+        in.endArray();
+        return items;
+    }
+
+    /**
+     * Consume JSON null, so the field stays unset as it would be after reflective deserialization
+     * @param in reader which is positioned on the value
+     * @return false when the value is null and was consumed
+     * @throws IOException when JSON document is malformed or can't be read
+     */
+    private boolean hasValue(@NotNull JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return false;
+        }
+        return true;
+    }
+
+    @FunctionalInterface
+    private interface ItemReader<T> {
+        T read(JsonReader in) throws IOException;
+    }
+}
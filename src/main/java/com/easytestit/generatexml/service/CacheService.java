@@ -0,0 +1,185 @@
+package com.easytestit.generatexml.service;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * The service class {@link CacheService} stores on disk {@link PartialReport} which was built from every JSON file.
+ * Stored part is valid while path, size and last modified time of JSON file are the same,
+ * so only new or changed JSON files need to be parsed and transformed again
+ */
+public class CacheService {
+
+    private static final Logger LOGGER = LogManager.getLogger(CacheService.class.getName());
+    private static final Gson GSON = new GsonBuilder().registerTypeAdapter(TagCounters.class, new TagCountersAdapter()).create();
+    /**
+     * Version of stored data, entries with other version are ignored
+     */
+    private static final int CACHE_VERSION = 3;
+    private static final String CACHE_FILE_EXTENSION = ".json";
+
+    private final Path cacheFolder;
+
+    public CacheService(@NotNull File cacheFolder) {
+        this.cacheFolder = cacheFolder.toPath();
+    }
+
+    /**
+     * Load part of report which was built from JSON file before
+     *
+     * @param jsonFile path to JSON file
+     * @return stored part of report or empty when JSON file was changed or wasn't transformed before
+     */
+    public Optional<PartialReport> load(@NotNull String jsonFile) {
+        var cacheFile = getCacheFile(jsonFile);
+        if (!Files.isRegularFile(cacheFile)) return Optional.empty();
+
+        try (Reader reader = Files.newBufferedReader(cacheFile, StandardCharsets.UTF_8)) {
+            var entry = GSON.fromJson(reader, CacheEntry.class);
+            var source = new File(jsonFile);
+            if (entry != null
+                    && entry.version == CACHE_VERSION
+                    && jsonFile.equals(entry.path)
+                    && source.length() == entry.size
+                    && source.lastModified() == entry.lastModified) {
+                return Optional.ofNullable(entry.report);
+            }
+        } catch (IOException | JsonParseException e) {
+            LOGGER.warn(String.format("Cached report of file '%s' can't be read, it will be transformed again", jsonFile), e);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Store part of report which was built from JSON file
+     *
+     * @param jsonFile path to JSON file
+     * @param report part of report which was built from all features of the file
+     */
+    public void store(@NotNull String jsonFile, @NotNull PartialReport report) {
+        var source = new File(jsonFile);
+        var entry = new CacheEntry();
+        entry.version = CACHE_VERSION;
+        entry.path = jsonFile;
+        entry.size = source.length();
+        entry.lastModified = source.lastModified();
+        entry.report = report;
+
+        var cacheFile = getCacheFile(jsonFile);
+        try {
+            Files.createDirectories(cacheFolder);
+            var temporaryFile = Files.createTempFile(cacheFolder, cacheFile.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                GSON.toJson(entry, writer);
+            }
+            Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn(String.format("Report of file '%s' wasn't cached", jsonFile), e);
+        }
+    }
+
+    /**
+     * Remove stored parts of JSON files which aren't in report folder anymore
+     *
+     * @param jsonFiles paths to all current JSON files
+     */
+    public void prune(@NotNull Collection<String> jsonFiles) {
+        if (!Files.isDirectory(cacheFolder)) return;
+
+        Set<Path> actualFiles = new HashSet<>();
+        jsonFiles.forEach(jsonFile -> actualFiles.add(getCacheFile(jsonFile)));
+        try (Stream<Path> cacheFiles = Files.list(cacheFolder)) {
+            cacheFiles.filter(file -> file.getFileName().toString().endsWith(CACHE_FILE_EXTENSION))
+                    .filter(file -> !actualFiles.contains(file))
+                    .forEach(file -> {
+                        try {
+                            Files.deleteIfExists(file);
+                        } catch (IOException e) {
+                            LOGGER.warn(String.format("Outdated cache file '%s' wasn't removed", file), e);
+                        }
+                    });
+        } catch (IOException e) {
+            LOGGER.warn(String.format("Cache folder '%s' can't be read", cacheFolder), e);
+        }
+    }
+
+    /**
+     * @param jsonFile path to JSON file
+     * @return path to the file where part of report is stored, it's named by hash of JSON file path
+     */
+    @NotNull
+    private Path getCacheFile(@NotNull String jsonFile) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(jsonFile.getBytes(StandardCharsets.UTF_8));
+            var name = new StringBuilder();
+            for (byte b : digest) name.append(String.format("%02x", b));
+            return cacheFolder.resolve(name.append(CACHE_FILE_EXTENSION).toString());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Stored data with the state of JSON file at the moment when it was transformed
+     */
+    private static class CacheEntry {
+        private int version;
+        private String path;
+        private long size;
+        private long lastModified;
+        private PartialReport report;
+    }
+
+    /**
+     * Tag ids are valid only while the application is running, so tags are stored by name with quantity of occurrences
+     */
+    private static class TagCountersAdapter extends TypeAdapter<TagCounters> {
+
+        @Override
+        public void write(JsonWriter out, TagCounters tags) throws IOException {
+            out.beginObject();
+            var error = new IOException[1];
+            tags.forEach((tag, count) -> {
+                try {
+                    out.name(tag).value(count);
+                } catch (IOException e) {
+                    error[0] = e;
+                }
+            });
+            if (error[0] != null) throw error[0];
+            out.endObject();
+        }
+
+        @Override
+        public TagCounters read(JsonReader in) throws IOException {
+            var tags = new TagCounters();
+            in.beginObject();
+            while (in.hasNext()) tags.add(in.nextName(), in.nextInt());
+            in.endObject();
+            return tags;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.easytestit.generatexml.service;
+
+import com.easytestit.generatexml.data.DefaultData;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * The service class {@link DiscoveryService} finds JSON reports in report folder and its subfolders.
+ * Files are selected by glob include patterns, files and folders are skipped by glob exclude patterns.
+ * Patterns are matched against the path relative to report folder, e.g. {@code **.json} or {@code **&#47;node_modules}.
+ * Subfolders of report folder are walked in parallel
+ */
+public class DiscoveryService {
+
+    private static final Logger LOGGER = LogManager.getLogger(DiscoveryService.class.getName());
+    private static final String DEFAULT_INCLUDE_PATTERN = "**.".concat(DefaultData.DEFAULT_FILE_EXTENSIONS);
+
+    private final List<PathMatcher> includes;
+    private final List<PathMatcher> excludes;
+    private final int maxDepth;
+
+    /**
+     * Create discovery of JSON files which are located directly in report folder
+     */
+    public DiscoveryService() {
+        this(Collections.emptyList(), Collections.emptyList(), 1);
+    }
+
+    /**
+     * @param includePatterns glob patterns of files which should be found, all JSON files are found when it's empty
+     * @param excludePatterns glob patterns of files and folders which should be skipped
+     * @param maxDepth the maximum number of folder levels to visit, 1 means files of report folder only
+     */
+    public DiscoveryService(@NotNull Collection<String> includePatterns, @NotNull Collection<String> excludePatterns, int maxDepth) {
+        this.includes = toMatchers(includePatterns.isEmpty() ? Collections.singletonList(DEFAULT_INCLUDE_PATTERN) : includePatterns);
+        this.excludes = toMatchers(excludePatterns);
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * A convenience method which finds files matched by patterns and collects path to these files
+     * in a new String collection sorted by path
+     *
+     * @param reportFolder the folder where locate all files after launching tests
+     * @return the collection of String with defined path to JSON files
+     */
+    @NotNull
+    public Collection<String> discover(@NotNull File reportFolder) {
+        var root = reportFolder.toPath();
+        if (!Files.isDirectory(root)) {
+            LOGGER.info("Report folder ".concat(reportFolder.getName()).concat(" aren't contain any files!"));
+            return new ArrayList<>();
+        }
+
+        var start = System.nanoTime();
+        var walk = new Walk(root);
+        List<Path> subfolders = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(root)) {
+            for (Path entry : entries) {
+                if (Files.isDirectory(entry)) {
+                    if (maxDepth > 1 && !walk.isExcluded(entry)) subfolders.add(entry);
+                    else walk.skippedFolders.incrementAndGet();
+                } else {
+                    walk.checkFile(entry);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error(String.format("Report folder '%s' can't be read", reportFolder), e);
+        }
+        //every subfolder of the first level is walked in separate task
+        subfolders.parallelStream().forEach(walk::walkFolder);
+
+        var out = walk.found.stream().sorted().map(Path::toString).collect(Collectors.toList());
+        LOGGER.info(String.format("Found %d report files among %d files in '%s' (%d folders skipped) in %d ms",
+                out.size(), walk.visitedFiles.get(), reportFolder, walk.skippedFolders.get(), (System.nanoTime() - start) / 1_000_000));
+        return out;
+    }
+
+    @NotNull
+    private static List<PathMatcher> toMatchers(@NotNull Collection<String> patterns) {
+        return patterns.stream()
+                .map(pattern -> FileSystems.getDefault().getPathMatcher(pattern.startsWith("glob:") || pattern.startsWith("regex:") ? pattern : "glob:".concat(pattern)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * State of one discovery which is shared by parallel tasks
+     */
+    private class Walk {
+
+        private final Path root;
+        private final Queue<Path> found = new ConcurrentLinkedQueue<>();
+        private final AtomicLong visitedFiles = new AtomicLong();
+        private final AtomicLong skippedFolders = new AtomicLong();
+
+        Walk(Path root) {
+            this.root = root;
+        }
+
+        private void walkFolder(@NotNull Path folder) {
+            try {
+                Files.walkFileTree(folder, EnumSet.noneOf(FileVisitOption.class), maxDepth - 1, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                        if (!dir.equals(folder) && isExcluded(dir)) {
+                            skippedFolders.incrementAndGet();
+                            return FileVisitResult.SKIP_SUBTREE;
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        //folders on the maximum depth are passed here as well
+                        if (attrs.isDirectory()) skippedFolders.incrementAndGet();
+                        else checkFile(file);
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException e) {
+                        LOGGER.debug(String.format("File '%s' can't be read", file), e);
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException e) {
+                LOGGER.error(String.format("Folder '%s' can't be read", folder), e);
+            }
+        }
+
+        private void checkFile(@NotNull Path file) {
+            visitedFiles.incrementAndGet();
+            var relativePath = root.relativize(file);
+            if (includes.stream().anyMatch(matcher -> matcher.matches(relativePath)) && !isExcluded(file)) {
+                found.add(file);
+            }
+        }
+
+        private boolean isExcluded(@NotNull Path path) {
+            var relativePath = root.relativize(path);
+            return excludes.stream().anyMatch(matcher -> matcher.matches(relativePath));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.easytestit.generatexml.service;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Scanner which finds {@code Host} header of request and {@code Date} header of response in doc strings
+ * with HTTP logs, e.g. {@code 1 > Host: localhost} and {@code 1 < Date: Tue, 15 Oct 2019 10:22:33 GMT}.
+ * Text is read line by line in one pass without regular expressions and intermediate arrays.
+ * The first found value of every header is kept, scanning stops when both values are known
+ */
+class HttpHeaderScanner {
+
+    private static final String HOST_HEADER = "Host:";
+    private static final String DATE_HEADER = "Date:";
+
+    private String host = "";
+    private String date = "";
+
+    /**
+     * Find headers which are still unknown in the text
+     *
+     * @param text value of doc string
+     */
+    void scan(@NotNull String text) {
+        var length = text.length();
+        var lineStart = 0;
+        while (lineStart < length && !isComplete()) {
+            var lineEnd = text.indexOf('\n', lineStart);
+            if (lineEnd < 0) lineEnd = length;
+            scanLine(text, lineStart, lineEnd);
+            lineStart = lineEnd + 1;
+        }
+    }
+
+    /**
+     * @return true when both host and date are known
+     */
+    boolean isComplete() {
+        return !host.isEmpty() && !date.isEmpty();
+    }
+
+    /**
+     * @return host of request without port or empty string when it wasn't found
+     */
+    @NotNull
+    String getHost() {
+        return host;
+    }
+
+    /**
+     * @return date of response without time zone, e.g. {@code Tue, 15 Oct 2019 10:22:33}, or empty string when it wasn't found
+     */
+    @NotNull
+    String getDate() {
+        return date;
+    }
+
+    private void scanLine(@NotNull String text, int start, int end) {
+        //skip number of request and direction marker: '>' for request, '<' for response
+        var i = skipWhile(text, start, end, true);
+        var direction = i < end ? text.charAt(i) : 0;
+        if (direction == '>' || direction == '<') i = skipWhile(text, i + 1, end, false);
+
+        if (host.isEmpty() && direction != '<' && text.regionMatches(true, i, HOST_HEADER, 0, HOST_HEADER.length())) {
+            host = hostValue(text, i + HOST_HEADER.length(), end);
+        } else if (date.isEmpty() && direction != '>' && text.regionMatches(true, i, DATE_HEADER, 0, DATE_HEADER.length())) {
+            date = dateValue(text, i + DATE_HEADER.length(), end);
+        }
+    }
+
+    @NotNull
+    private static String hostValue(@NotNull String text, int start, int end) {
+        start = skipWhile(text, start, end, false);
+        end = trimEnd(text, start, end);
+        //cut port
+        for (var i = end - 1; i > start; i--) {
+            var c = text.charAt(i);
+            if (c == ':') return text.substring(start, i);
+            if (c < '0' || c > '9') break;
+        }
+        return text.substring(start, end);
+    }
+
+    @NotNull
+    private static String dateValue(@NotNull String text, int start, int end) {
+        start = skipWhile(text, start, end, false);
+        end = trimEnd(text, start, end);
+        //cut time zone which follows the time, e.g. 'GMT'
+        var lastSpace = text.lastIndexOf(' ', end - 1);
+        var colon = lastSpace > start ? text.indexOf(':', lastSpace) : -1;
+        if (lastSpace > start && (colon < 0 || colon >= end)) end = trimEnd(text, start, lastSpace);
+        return text.substring(start, end);
+    }
+
+    private static int skipWhile(@NotNull String text, int i, int end, boolean digits) {
+        while (i < end && (text.charAt(i) == ' ' || text.charAt(i) == '\t' || (digits && Character.isDigit(text.charAt(i))))) i++;
+        return i;
+    }
+
+    private static int trimEnd(@NotNull String text, int start, int end) {
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) end--;
+        return end;
+    }
+}
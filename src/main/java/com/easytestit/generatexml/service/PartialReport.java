@@ -0,0 +1,116 @@
+package com.easytestit.generatexml.service;
+
+import com.easytestit.generatexml.dto.output.SingleReportSuite;
+import com.easytestit.generatexml.dto.output.XMLReport;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Part of the aggregated report which was built from some features, for example from features of one JSON file.
+ * Parts are combined by {@link #merge(PartialReport)} in the order of JSON files and converted to {@link XMLReport} at the end
+ */
+@NoArgsConstructor
+public class PartialReport {
+
+    private List<SingleReportSuite> suites = new ArrayList<>();
+    private TagCounters tags = new TagCounters();
+    private int failures;
+    private int scenarios;
+    private long duration;
+
+    /**
+     * Add test suite which was built from one feature together with its values for report totals
+     *
+     * @param suite prepared test suite
+     * @param suiteScenarios quantity of scenarios in the suite
+     * @param suiteFailures quantity of failed steps in the suite
+     * @param suiteDuration duration of the suite in nanoseconds
+     * @return this part of report
+     */
+    public PartialReport addSuite(@NotNull SingleReportSuite suite, int suiteScenarios, int suiteFailures, long suiteDuration) {
+        suites.add(suite);
+        scenarios += suiteScenarios;
+        failures += suiteFailures;
+        duration += suiteDuration;
+        return this;
+    }
+
+    /**
+     * Count tags of suite in all tags of report
+     *
+     * @param suiteTags counters of tags of one suite
+     * @return this part of report
+     */
+    public PartialReport addTags(@NotNull TagCounters suiteTags) {
+        tags.merge(suiteTags);
+        return this;
+    }
+
+    /**
+     * Append all suites and values of other part to this part
+     *
+     * @param other part of report which was built from next features
+     * @return this part of report
+     */
+    public PartialReport merge(@NotNull PartialReport other) {
+        suites.addAll(other.suites);
+        return mergeTotals(other);
+    }
+
+    /**
+     * Add values of other part to the report totals of this part without its suites
+     *
+     * @param other part of report which was built from next features
+     * @return this part of report
+     */
+    PartialReport mergeTotals(@NotNull PartialReport other) {
+        tags.merge(other.tags);
+        failures += other.failures;
+        scenarios += other.scenarios;
+        duration += other.duration;
+        return this;
+    }
+
+    /**
+     * @return test suites of this part in the order they were added
+     */
+    List<SingleReportSuite> getSuites() {
+        return suites;
+    }
+
+    /**
+     * @return quantity of test suites in this part
+     */
+    public int getSuitesCount() {
+        return suites.size();
+    }
+
+    /**
+     * Helper method which fill object {@link XMLReport}. This object contains all Feature file from Cucumber, which contains all Backgrounds and Scenarios.
+     * Test suites are numbered in the order they were added
+     *
+     * @return prepared object {@link XMLReport} with all prepared data
+     */
+    @NotNull
+    public XMLReport toXMLReport() {
+        var reportSuites = new XMLReport();
+        var disabled = tags.getDisabledCount();
+        if (disabled > 0) reportSuites.setDisabled(disabled);
+
+        for (var i = 0; i < suites.size(); i++) {
+            suites.get(i).setId(i + 1);
+        }
+
+        reportSuites.setErrors(failures)
+                .setFailures(failures)
+                .setTests(scenarios)
+                .setTime(duration)
+                .setSingleReportSuites(new ArrayList<>(suites))
+                .setTags(tags.toTagString());
+
+        return reportSuites;
+    }
+}
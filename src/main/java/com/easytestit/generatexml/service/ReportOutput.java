@@ -0,0 +1,128 @@
+package com.easytestit.generatexml.service;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Stream of the final report which writes every byte to the plain report file and to the entry of ZIP archive
+ * at the same time, so the report is written and archived in one pass. Both files are written next to their targets
+ * and replace them only when {@link #commit()} is called, closing of not committed stream removes written files
+ */
+public class ReportOutput extends OutputStream {
+
+    private static final Logger LOGGER = LogManager.getLogger(ReportOutput.class.getName());
+
+    private final Path report;
+    private final Path temporaryReport;
+    private final ZipService zipService;
+    private OutputStream reportOut;
+    private ZipOutputStream zipOut;
+    private boolean committed;
+    private boolean closed;
+
+    /**
+     * @param report the file where report should be written
+     * @param zipService service of archive where report is written too or null when report isn't archived
+     * @throws IOException when files can't be created
+     */
+    public ReportOutput(@NotNull Path report, @Nullable ZipService zipService) throws IOException {
+        this(report, zipService, report.getFileName().toString());
+    }
+
+    /**
+     * Stream which writes the entry of archive only
+     *
+     * @param zipService service of archive
+     * @param entryName name of the file in archive
+     * @throws IOException when archive can't be created
+     */
+    ReportOutput(@NotNull ZipService zipService, @NotNull String entryName) throws IOException {
+        this(null, zipService, entryName);
+    }
+
+    private ReportOutput(@Nullable Path report, @Nullable ZipService zipService, @NotNull String entryName) throws IOException {
+        this.report = report;
+        this.zipService = zipService;
+        this.temporaryReport = report == null ? null
+                //sibling file gets the same default permissions as the target
+                : report.toAbsolutePath().resolveSibling(report.getFileName().toString().concat(".tmp"));
+        try {
+            if (report != null) {
+                Files.createDirectories(temporaryReport.getParent());
+                reportOut = new BufferedOutputStream(Files.newOutputStream(temporaryReport));
+            }
+            if (zipService != null) zipOut = zipService.openTemporaryArchive(entryName);
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (reportOut != null) reportOut.write(b);
+        if (zipOut != null) zipOut.write(b);
+    }
+
+    @Override
+    public void write(@NotNull byte[] b, int off, int len) throws IOException {
+        if (reportOut != null) reportOut.write(b, off, len);
+        if (zipOut != null) zipOut.write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (reportOut != null) reportOut.flush();
+        if (zipOut != null) zipOut.flush();
+    }
+
+    /**
+     * Finish written files and move them to their targets, the report is moved before the archive
+     *
+     * @throws IOException when files can't be written or moved
+     */
+    public void commit() throws IOException {
+        if (reportOut != null) reportOut.close();
+        if (zipOut != null) zipOut.close();
+        if (report != null) Files.move(temporaryReport, report, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        if (zipService != null) zipService.commitTemporaryArchive();
+        committed = true;
+    }
+
+    /**
+     * Close written files, files which weren't committed are removed
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        closeQuietly(reportOut);
+        closeQuietly(zipOut);
+        if (committed) return;
+        try {
+            if (temporaryReport != null) Files.deleteIfExists(temporaryReport);
+            if (zipService != null) zipService.discardTemporaryArchive();
+        } catch (IOException e) {
+            LOGGER.warn("Not committed report wasn't removed", e);
+        }
+    }
+
+    private static void closeQuietly(@Nullable OutputStream out) {
+        if (out == null) return;
+        try {
+            out.close();
+        } catch (IOException e) {
+            LOGGER.debug("Report stream was already closed", e);
+        }
+    }
+}
@@ -6,11 +6,16 @@ import com.easytestit.generatexml.dto.output.XMLReport;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
-import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 
 /**
  * The service class {@link Serialization} which convert JAVA Object in XML file
@@ -19,24 +24,96 @@ public class Serialization {
 
     private static final Logger LOGGER = LogManager.getLogger(Serialization.class.getName());
 
+    private final boolean consoleEcho;
+    private final ZipService zipService;
+
     public Serialization() {
+        this(true);
+    }
+
+    /**
+     * @param consoleEcho true when the written report should be printed in console
+     */
+    public Serialization(boolean consoleEcho) {
+        this(consoleEcho, null);
+    }
+
+    /**
+     * @param consoleEcho true when the written report should be printed in console
+     * @param zipService service of archive where the report is written together with the report file
+     *                   or null when report isn't archived
+     */
+    public Serialization(boolean consoleEcho, @Nullable ZipService zipService) {
         LOGGER.log(Level.DEBUG, "XML service from Java Object to XML file invoked");
+        this.consoleEcho = consoleEcho;
+        this.zipService = zipService;
     }
 
     public void serializeToXML(XMLReport XMLReport) {
         try {
             LOGGER.info("Start to create XML file from Java Object ".concat(XMLReport.class.getName()));
 
-            JAXBContext context = JAXBContext.newInstance(XMLReport.class);
-            Marshaller m = context.createMarshaller();
-            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+            var reportFile = Path.of(DefaultData.REPORT_RESULTS_FOLDER, DefaultData.FILE_NAME);
+            //the report is marshalled once to the file and the archive and printed from the file
+            try (var out = new ReportOutput(reportFile, zipService)) {
+                createMarshaller().marshal(XMLReport, out);
+                out.commit();
+            }
+            if (consoleEcho) Files.copy(reportFile, System.out);
+        } catch (JAXBException | IOException e) {
+            LOGGER.error(e.getMessage());
+            throw new ValidationException(e);
+        }
+    }
 
-            m.marshal(XMLReport, System.out);
-            m.marshal(XMLReport, new File(DefaultData.REPORT_RESULTS_FOLDER.concat(DefaultData.FILE_NAME)));
-        } catch (JAXBException e) {
+    /**
+     * Serialize report to the file without printing it in console. The report is written to the temporary file
+     * in the same folder first and then moved to the target, so readers of the target never see partly written report
+     *
+     * @param XMLReport the aggregated report
+     * @param target the file where report should be written
+     */
+    public void serializeToFile(XMLReport XMLReport, Path target) {
+        try {
+            var folder = target.toAbsolutePath().getParent();
+            Files.createDirectories(folder);
+            //sibling file gets the same default permissions as the target
+            var temporaryFile = folder.resolve(target.getFileName().toString().concat(".tmp"));
+            try {
+                createMarshaller().marshal(XMLReport, temporaryFile.toFile());
+                Files.move(temporaryFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (JAXBException | IOException e) {
             LOGGER.error(e.getMessage());
             throw new ValidationException(e);
         }
     }
 
+    /**
+     * Marshaller isn't thread-safe, so it's created for every report from the shared context
+     */
+    @NotNull
+    private static Marshaller createMarshaller() throws JAXBException {
+        Marshaller m = ContextHolder.CONTEXT.createMarshaller();
+        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+        return m;
+    }
+
+    /**
+     * Creation of {@link JAXBContext} is expensive, it's created once when the first report is serialized
+     */
+    private static class ContextHolder {
+
+        private static final JAXBContext CONTEXT;
+
+        static {
+            try {
+                CONTEXT = JAXBContext.newInstance(XMLReport.class);
+            } catch (JAXBException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package com.easytestit.generatexml.service;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Renders results of steps of one scenario to the text of {@code system-out} and {@code system-err} elements.
+ * Lines are appended to buffers which are reused for the next scenario, so rendering of a scenario takes time
+ * proportional to the length of its output instead of copying the whole text on every step
+ */
+class StepOutputRenderer {
+
+    private static final int KEYWORD_COLUMN_WIDTH = 15;
+    private static final int STEP_COLUMN_WIDTH = 90;
+
+    private final StringBuilder out = new StringBuilder();
+    private final StringBuilder err = new StringBuilder();
+
+    /**
+     * Append line of passed step in the format {@code Scenario.......Given step name.......passed}
+     *
+     * @param keywordType string value keyword of Element
+     * @param keyword string value keyword of Step
+     * @param stepName string value name of Step
+     * @param stepResult string value result of Step
+     */
+    void appendPassedStep(String keywordType, String keyword, String stepName, String stepResult) {
+        out.append('\n');
+        var lineStart = out.length();
+        out.append(keywordType);
+        pad(out, lineStart + KEYWORD_COLUMN_WIDTH);
+        out.append(keyword).append(' ').append(stepName);
+        pad(out, lineStart + STEP_COLUMN_WIDTH);
+        out.append(stepResult);
+    }
+
+    /**
+     * Append error message of failed step
+     *
+     * @param errMessage string value of error message, nothing is appended after line separator when it's absent
+     */
+    void appendFailedStep(String errMessage) {
+        err.append('\n');
+        if (errMessage != null) err.append(errMessage);
+    }
+
+    /**
+     * @return rendered output of passed steps, buffer is cleared for the next scenario
+     */
+    @NotNull
+    String takeOutput() {
+        return take(out);
+    }
+
+    /**
+     * @return rendered errors of failed steps, buffer is cleared for the next scenario
+     */
+    @NotNull
+    String takeErrors() {
+        return take(err);
+    }
+
+    /**
+     * Write output of background and output of scenario one after another without building intermediate strings
+     *
+     * @param background rendered output of background steps
+     * @param scenario rendered output of scenario steps
+     * @param target where output is written
+     * @throws IOException when target can't be written
+     */
+    static void writeOutput(@NotNull String background, @NotNull String scenario, @NotNull Appendable target) throws IOException {
+        target.append(background).append(scenario);
+    }
+
+    /**
+     * @param background rendered output of background steps
+     * @param scenario rendered output of scenario steps
+     * @return output of background followed by output of scenario
+     */
+    @NotNull
+    static String joinOutput(@NotNull String background, @NotNull String scenario) {
+        if (background.isEmpty()) return scenario;
+        var text = new StringBuilder(background.length() + scenario.length());
+        try {
+            writeOutput(background, scenario, text);
+        } catch (IOException e) {
+            //StringBuilder never throws IOException
+            throw new IllegalStateException(e);
+        }
+        return text.toString();
+    }
+
+    private static void pad(@NotNull StringBuilder text, int length) {
+        while (text.length() < length) text.append('.');
+    }
+
+    @NotNull
+    private static String take(@NotNull StringBuilder buffer) {
+        var text = buffer.toString();
+        buffer.setLength(0);
+        return text;
+    }
+}
@@ -0,0 +1,283 @@
+package com.easytestit.generatexml.service;
+
+import com.easytestit.generatexml.ValidationException;
+import com.easytestit.generatexml.dto.output.SingleReportSuite;
+import com.easytestit.generatexml.dto.output.properties.SuiteProperties;
+import com.easytestit.generatexml.dto.output.testcase.TestCase;
+import com.easytestit.generatexml.utils.FixedDecimal;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writer which streams test suites to XML report right after they were produced, so the report is never kept in memory.
+ * Suites are written to the body file in the same format as JAXB writes them, totals of the report are counted on the way.
+ * When the report is finished, the root element with totals is written and followed by the body,
+ * the result is moved to the target atomically. Closing of not finished writer leaves the target untouched
+ */
+public class StreamingReportWriter implements Closeable {
+
+    private static final Logger LOGGER = LogManager.getLogger(StreamingReportWriter.class.getName());
+    private static final String INDENT = "    ";
+
+    private final Path target;
+    private final boolean consoleEcho;
+    private final ZipService zipService;
+    private final Path bodyFile;
+    private final Writer xml;
+    private final PartialReport totals = new PartialReport();
+    private final StringBuilder number = new StringBuilder(24);
+    private final char[] buffer = new char[24];
+    private int suitesCount;
+    private boolean finished;
+
+    /**
+     * @param target the file where report should be written
+     * @param consoleEcho true when the final report should be printed in console
+     */
+    public StreamingReportWriter(@NotNull Path target, boolean consoleEcho) {
+        this(target, consoleEcho, null);
+    }
+
+    /**
+     * @param target the file where report should be written
+     * @param consoleEcho true when the final report should be printed in console
+     * @param zipService service of archive where the final report is written together with the target
+     *                   or null when report isn't archived
+     */
+    public StreamingReportWriter(@NotNull Path target, boolean consoleEcho, @Nullable ZipService zipService) {
+        this.target = target;
+        this.consoleEcho = consoleEcho;
+        this.zipService = zipService;
+        try {
+            var folder = target.toAbsolutePath().getParent();
+            Files.createDirectories(folder);
+            //sibling files get the same default permissions as the target
+            this.bodyFile = folder.resolve(target.getFileName().toString().concat(".body"));
+            this.xml = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(bodyFile), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new ValidationException(String.format("Report '%s' can't be created", target), e);
+        }
+    }
+
+    /**
+     * Write all suites of the part and count its values in report totals. Suites are numbered in the order they were written
+     *
+     * @param part part of report, for example built from one feature
+     */
+    public void write(@NotNull PartialReport part) {
+        try {
+            for (SingleReportSuite suite : part.getSuites()) writeSuite(suite.setId(++suitesCount));
+            totals.mergeTotals(part);
+        } catch (IOException e) {
+            throw new ValidationException(String.format("Report '%s' can't be written", target), e);
+        }
+    }
+
+    /**
+     * Write the root element with totals, append written suites and move the report to the target.
+     * The archive is written in the same pass when it was requested
+     */
+    public void finish() {
+        if (finished) return;
+        finished = true;
+        try {
+            xml.close();
+            try (var out = new ReportOutput(target, zipService)) {
+                writeHeader(out);
+                Files.copy(bodyFile, out);
+                out.write("</testsuites>\n".getBytes(StandardCharsets.UTF_8));
+                out.commit();
+            }
+            if (consoleEcho) Files.copy(target, System.out);
+            LOGGER.info(String.format("Report '%s' was written with %d test suites", target, suitesCount));
+        } catch (IOException e) {
+            throw new ValidationException(String.format("Report '%s' can't be written", target), e);
+        }
+    }
+
+    /**
+     * Remove written suites, the report is written only when it was finished before
+     */
+    @Override
+    public void close() {
+        try {
+            xml.close();
+        } catch (IOException e) {
+            LOGGER.debug("Writer of report body was already closed", e);
+        }
+        try {
+            Files.deleteIfExists(bodyFile);
+        } catch (IOException e) {
+            LOGGER.warn(String.format("Temporary file '%s' wasn't removed", bodyFile), e);
+        }
+    }
+
+    private void writeHeader(@NotNull OutputStream out) throws IOException {
+        var report = totals.toXMLReport();
+        var header = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        header.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n<testsuites");
+        attribute(header, "tags", report.getTags());
+        attribute(header, "disabled", report.getDisabled());
+        attribute(header, "errors", report.getErrors());
+        attribute(header, "failures", report.getFailures());
+        attribute(header, "name", report.getName());
+        attribute(header, "tests", report.getTests());
+        seconds(header, report.getTime());
+        //the root element is ended after the body
+        header.write(">\n");
+        header.flush();
+    }
+
+    private void writeSuite(@NotNull SingleReportSuite suite) throws IOException {
+        xml.write(INDENT);
+        xml.write("<testsuite");
+        attribute(xml, "name", suite.getName());
+        attribute(xml, "tests", suite.getTests());
+        attribute(xml, "disabled", suite.getDisabled());
+        attribute(xml, "errors", suite.getErrors());
+        attribute(xml, "failures", suite.getFailures());
+        attribute(xml, "hostname", suite.getHostname());
+        attribute(xml, "id", suite.getId());
+        attribute(xml, "package", suite.getPackageName());
+        attribute(xml, "skipped", suite.getSkipped());
+        seconds(xml, suite.getTime());
+        attribute(xml, "timestamp", suite.getTimestamp());
+        xml.write(">\n");
+
+        if (suite.getSuiteProperties() != null) {
+            xml.write(INDENT + INDENT + "<properties>\n");
+            for (SuiteProperties property : suite.getSuiteProperties()) {
+                xml.write(INDENT + INDENT + INDENT + "<property");
+                attribute(xml, "name", property.getName());
+                attribute(xml, "value", property.getValue());
+                xml.write("/>\n");
+            }
+            xml.write(INDENT + INDENT + "</properties>\n");
+        }
+        if (suite.getTestCases() != null) {
+            for (TestCase testCase : suite.getTestCases()) writeTestCase(testCase);
+        }
+        text(INDENT + INDENT, "tags", suite.getTags());
+        text(INDENT + INDENT, "system-out", suite.getTestSuitAggregatedOutInfo());
+        text(INDENT + INDENT, "system-err", suite.getTestSuitAggregatedOutErr());
+        xml.write(INDENT + "</testsuite>\n");
+    }
+
+    private void writeTestCase(@NotNull TestCase testCase) throws IOException {
+        xml.write(INDENT + INDENT + "<testcase");
+        attribute(xml, "name", testCase.getTestName());
+        attribute(xml, "assertions", testCase.getAssertionsMessage());
+        attribute(xml, "classname", testCase.getClassName());
+        attribute(xml, "status", testCase.getStatus());
+        seconds(xml, testCase.getTime());
+        attribute(xml, "description", testCase.getDescription());
+        if (testCase.getCaseOutInfo() == null && testCase.getCaseOutErr() == null) {
+            xml.write("/>\n");
+            return;
+        }
+        xml.write(">\n");
+        text(INDENT + INDENT + INDENT, "system-out", testCase.getCaseOutInfo());
+        text(INDENT + INDENT + INDENT, "system-err", testCase.getCaseOutErr());
+        xml.write(INDENT + INDENT + "</testcase>\n");
+    }
+
+    private void attribute(@NotNull Writer out, @NotNull String name, Integer value) throws IOException {
+        if (value == null) return;
+        number.setLength(0);
+        number.append(value.intValue());
+        numberAttribute(out, name);
+    }
+
+    private void seconds(@NotNull Writer out, Long nanos) throws IOException {
+        if (nanos == null) return;
+        number.setLength(0);
+        FixedDecimal.appendSeconds(nanos, number);
+        numberAttribute(out, "time");
+    }
+
+    private void numberAttribute(@NotNull Writer out, @NotNull String name) throws IOException {
+        number.getChars(0, number.length(), buffer, 0);
+        out.write(' ');
+        out.write(name);
+        out.write("=\"");
+        out.write(buffer, 0, number.length());
+        out.write('"');
+    }
+
+    private static void attribute(@NotNull Writer out, @NotNull String name, String value) throws IOException {
+        if (value == null) return;
+        out.write(' ');
+        out.write(name);
+        out.write("=\"");
+        escape(out, value, true);
+        out.write('"');
+    }
+
+    private void text(@NotNull String indent, @NotNull String name, String value) throws IOException {
+        if (value == null) return;
+        xml.write(indent);
+        xml.write('<');
+        xml.write(name);
+        xml.write('>');
+        escape(xml, value, false);
+        xml.write("</");
+        xml.write(name);
+        xml.write(">\n");
+    }
+
+    /**
+     * Escape markup characters in the same way as JAXB does. Line breaks in attributes are written as character
+     * references, otherwise readers would normalize them to spaces
+     *
+     * @param out where escaped value is written
+     * @param value text which should be escaped
+     * @param attribute true when the value is written to attribute
+     * @throws IOException when value can't be written
+     */
+    private static void escape(@NotNull Writer out, @NotNull String value, boolean attribute) throws IOException {
+        var start = 0;
+        for (var i = 0; i < value.length(); i++) {
+            String reference;
+            switch (value.charAt(i)) {
+                case '&':
+                    reference = "&amp;";
+                    break;
+                case '<':
+                    reference = "&lt;";
+                    break;
+                case '>':
+                    reference = "&gt;";
+                    break;
+                case '\r':
+                    reference = "&#13;";
+                    break;
+                case '"':
+                    reference = attribute ? "&quot;" : null;
+                    break;
+                case '\n':
+                    reference = attribute ? "&#10;" : null;
+                    break;
+                default:
+                    reference = null;
+            }
+            if (reference != null) {
+                out.write(value, start, i - start);
+                out.write(reference);
+                start = i + 1;
+            }
+        }
+        out.write(value, start, value.length() - start);
+    }
+}
@@ -0,0 +1,111 @@
+package com.easytestit.generatexml.service;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Counters of tags of one suite or of the whole report. Counters are kept in primitive array indexed
+ * by id from {@link TagDictionary}, tags are remembered in the order they were met for the first time
+ */
+public class TagCounters {
+
+    private int[] counts = new int[0];
+    private int[] order = new int[0];
+    private int distinct;
+
+    /**
+     * Count one more occurrence of the tag
+     *
+     * @param tag name of the tag
+     * @return these counters
+     */
+    public TagCounters add(@NotNull String tag) {
+        return add(tag, 1);
+    }
+
+    /**
+     * Count several occurrences of the tag
+     *
+     * @param tag name of the tag
+     * @param count quantity of occurrences, it should be positive
+     * @return these counters
+     */
+    public TagCounters add(@NotNull String tag, int count) {
+        if (count < 1) throw new IllegalArgumentException("Quantity of tags should be positive, but was " + count);
+        return add(TagDictionary.global().intern(tag), count);
+    }
+
+    /**
+     * Add occurrences of all tags of other counters, tags which weren't met before are appended after known ones
+     *
+     * @param other counters of next suites
+     * @return these counters
+     */
+    public TagCounters merge(@NotNull TagCounters other) {
+        for (var i = 0; i < other.distinct; i++) add(other.order[i], other.counts[other.order[i]]);
+        return this;
+    }
+
+    /**
+     * @param tag name of the tag
+     * @return quantity of occurrences of the tag
+     */
+    public int getCount(@NotNull String tag) {
+        var id = TagDictionary.global().intern(tag);
+        return id < counts.length ? counts[id] : 0;
+    }
+
+    /**
+     * @return quantity of occurrences of tags which mark disabled tests
+     */
+    public int getDisabledCount() {
+        var dictionary = TagDictionary.global();
+        var disabled = 0;
+        for (var i = 0; i < distinct; i++) {
+            if (dictionary.isDisabled(order[i])) disabled += counts[order[i]];
+        }
+        return disabled;
+    }
+
+    /**
+     * @return true when no tag was counted
+     */
+    public boolean isEmpty() {
+        return distinct == 0;
+    }
+
+    /**
+     * Pass every tag with its quantity of occurrences in the order tags were met
+     *
+     * @param consumer receiver of tag name and quantity
+     */
+    public void forEach(@NotNull ObjIntConsumer<String> consumer) {
+        var dictionary = TagDictionary.global();
+        for (var i = 0; i < distinct; i++) consumer.accept(dictionary.getName(order[i]), counts[order[i]]);
+    }
+
+    /**
+     * @return names of all tags separated by space in the order tags were met
+     */
+    @NotNull
+    public String toTagString() {
+        var text = new StringBuilder();
+        forEach((tag, count) -> {
+            if (text.length() > 0) text.append(' ');
+            text.append(tag);
+        });
+        return text.toString();
+    }
+
+    private TagCounters add(int id, int count) {
+        if (id >= counts.length) counts = Arrays.copyOf(counts, Math.max(id + 1, counts.length * 2));
+        if (counts[id] == 0) {
+            if (distinct == order.length) order = Arrays.copyOf(order, Math.max(4, distinct * 2));
+            order[distinct++] = id;
+        }
+        counts[id] += count;
+        return this;
+    }
+}
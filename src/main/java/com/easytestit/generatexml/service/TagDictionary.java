@@ -0,0 +1,73 @@
+package com.easytestit.generatexml.service;
+
+import com.easytestit.generatexml.data.XMLBuilderConstants;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dictionary which interns every tag name once to int id, so tags are counted in primitive arrays
+ * and compared by exact name instead of searching one tag in the string of all other tags.
+ * Ids are valid only while the application is running and are shared by all reports. The dictionary is thread-safe
+ */
+public final class TagDictionary {
+
+    private static final TagDictionary GLOBAL = new TagDictionary();
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[32];
+    private volatile boolean[] disabled = new boolean[32];
+    private int size;
+
+    private TagDictionary() {
+    }
+
+    /**
+     * @return the dictionary which is shared by all reports
+     */
+    @NotNull
+    public static TagDictionary global() {
+        return GLOBAL;
+    }
+
+    /**
+     * @param tag name of the tag, e.g. {@code @smoke}
+     * @return id of the tag, the same name always gets the same id
+     */
+    public int intern(@NotNull String tag) {
+        var id = ids.get(tag);
+        if (id != null) return id;
+        synchronized (this) {
+            id = ids.get(tag);
+            if (id != null) return id;
+            if (size == names.length) {
+                disabled = Arrays.copyOf(disabled, size * 2);
+                names = Arrays.copyOf(names, size * 2);
+            }
+            //arrays are filled before the id is published by the map
+            disabled[size] = tag.contains(XMLBuilderConstants.IGNORED) || tag.contains(XMLBuilderConstants.DISABLED);
+            names[size] = tag;
+            ids.put(tag, size);
+            return size++;
+        }
+    }
+
+    /**
+     * @param id id of interned tag
+     * @return name of the tag
+     */
+    @NotNull
+    public String getName(int id) {
+        return names[id];
+    }
+
+    /**
+     * @param id id of interned tag
+     * @return true when the tag marks disabled tests, e.g. {@code @ignored} or {@code @disabled}
+     */
+    public boolean isDisabled(int id) {
+        return disabled[id];
+    }
+}
@@ -3,15 +3,14 @@ package com.easytestit.generatexml.service;
 import com.easytestit.generatexml.data.XMLBuilderConstants;
 import com.easytestit.generatexml.dto.input.elements.Element;
 import com.easytestit.generatexml.dto.input.elements.steps.Step;
+import com.easytestit.generatexml.dto.input.elements.steps.result.Status;
 import com.easytestit.generatexml.dto.output.SingleReportSuite;
 import com.easytestit.generatexml.dto.input.Feature;
 import com.easytestit.generatexml.dto.output.XMLReport;
 import com.easytestit.generatexml.dto.output.testcase.TestCase;
 import com.easytestit.generatexml.dto.input.tags.Tag;
-import com.easytestit.generatexml.utils.UtilsConverter;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.Contract;
@@ -24,31 +23,33 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
+/**
+ * The service class {@link TransformService} converts deserialized features to the aggregated report.
+ * Every feature is converted by the pure function {@link #toPartialReport(Feature)} which keeps all intermediate
+ * values on its own, so features could be converted at the same time and their results combined
+ * by {@link PartialReport#merge(PartialReport)} in the order of features
+ */
 @NoArgsConstructor
 public class TransformService {
 
     private static final Logger LOGGER = LogManager.getLogger(TransformService.class.getName());
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(XMLBuilderConstants.DATE_FORMATTER_PATTERN, Locale.ENGLISH);
 
-    private Map<Integer, TemporaryTestCase> tests = new HashMap<>();
-    private String allTagsFromAllFeatures = "";
-    private String hostName = "";
-    private String responseDate = "";
-    private String stepOutResults = "";
-    private String stepErrResults = "";
-    private String backgroundValue = "";
-    private int featureFilesCount = 0;
-    private int countFailuresTestsFromAllFiles = 0;
-    private int countFailuresTestFromOneFile = 0;
-    private int countScenarios = 0;
-    private int countScenariosInSuite = 0;
-    private Long durationOfTest = 0L;
-    private Long durationOfAllTest = 0L;
-    private Long durationOfAllTestFromAllSuites = 0L;
+    private PartialReport partialReport = new PartialReport();
+    private int parallelism = 1;
+
+    /**
+     * @param parallelism quantity of threads of fork-join pool which converts features, 1 means that features are converted one after another
+     */
+    public TransformService(int parallelism) {
+        this.parallelism = parallelism;
+    }
 
     /**
      * The main goal in this method is to convert JAVA object which was deserialized from JSON file
@@ -60,182 +61,172 @@ public class TransformService {
      */
     public XMLReport transformFeaturesToReport(@NotNull Collection<Feature> features) {
         LOGGER.info("Method transformFeaturesToReportSuites invoked");
-        Collection<SingleReportSuite> singleReportSuites = new ArrayList<>();
-
-        features.forEach(feature -> {
-            featureFilesCount += 1;
-            if (feature.getTags() != null) tagsProcessing(feature.getTags());
-            if (feature.getElements() != null)
-                feature.getElements().forEach(element -> elementProcessing(feature, element));
-
-            singleReportSuites.add(new SingleReportSuite()
-                    .setTests(String.valueOf(countScenariosInSuite))
-                    .setName(getLastElement(Arrays.stream(feature.getName().split("/")).collect(Collectors.toList())))
-                    .setErrors(String.valueOf(countFailuresTestFromOneFile))
-                    .setFailures(String.valueOf(countFailuresTestFromOneFile))
-                    .setId(String.valueOf(featureFilesCount))
-                    .setPackageName(feature.getName())
-                    .setTime(String.valueOf(UtilsConverter.round.apply(durationOfAllTest * XMLBuilderConstants.RATIO)))
-                    .setTimestamp(LocalDateTime.parse(responseDate, DateTimeFormatter.ofPattern(XMLBuilderConstants.DATE_FORMATTER_PATTERN, Locale.ENGLISH)).toString())
-                    .setTestCases(getTestCasesFromFeature(tests))
-                    .setHostname(hostName));
-
-            durationOfAllTestFromAllSuites += durationOfAllTest;
-            durationOfAllTest = 0L;
-            countScenariosInSuite = 0;
-            countFailuresTestFromOneFile = 0;
-
-            tests.clear();
-        });
-
-        return getReportSuites(allTagsFromAllFeatures.trim(), countFailuresTestsFromAllFiles, countFailuresTestsFromAllFiles, countScenarios, durationOfAllTestFromAllSuites, singleReportSuites);
-    }
-
-    private void elementProcessing(Feature feature, @NotNull Element element) {
-        if (element.getKeyword().equals(XMLBuilderConstants.SCENARIO)) {
-            countScenarios += 1;
-            countScenariosInSuite += 1;
-        }
-        if (element.getTags() != null) tagsProcessing(element.getTags());
-        if (element.getSteps() != null)
-            element.getSteps().forEach(step -> stepProcessing(element, step));
-
-        tests.put(element.getLine(), new TemporaryTestCase()
-                .setLine(element.getLine())
-                .setKeyword(element.getKeyword())
-                .setName(element.getName())
-                .setDescription(feature.getDescription())
-                .setTestOutputString(stepOutResults)
-                .setTestErrorOutputString(stepErrResults)
-                .setTestDuration(durationOfTest));
-
-        durationOfAllTest += durationOfTest;
-        stepOutResults = "";
-        durationOfTest = 0L;
-    }
-
-    private void stepProcessing(Element element, @NotNull Step step) {
-        if (!step.getResult().getStatus().equals(XMLBuilderConstants.PASSED)) {
-            countFailuresTestsFromAllFiles += 1;
-            countFailuresTestFromOneFile += 1;
-            stringErrBuilder(step.getResult().getErrorMessage());
-        } else if (step.getResult().getStatus().equals(XMLBuilderConstants.PASSED)) {
-            stringOutBuilder(element.getKeyword(), step.getKeyword(), step.getName(), step.getResult().getStatus());
-        }
-        durationOfTest += step.getResult().getDuration();
-
-        if (step.getDocString() != null)
-            getArrayStringBySeparator(step.getDocString().getValue(), ">").forEach(
-                    request -> {
-                        if (request.toLowerCase().contains(XMLBuilderConstants.HOST)) {
-                            hostName = UtilsConverter.removeRedundantSymbols.apply(getArrayStringBySeparator(request, ":").get(1));
-                        } else if (request.toLowerCase().contains(XMLBuilderConstants.USER_AGENT)) {
-                            getArrayStringBySeparator(request, "<").forEach(
-                                    response -> {
-                                        if (response.contains(XMLBuilderConstants.DATE_TEXT)) {
-                                            responseDate = response.substring(7, 32);
-                                        }
-                                    }
-                            );
-                        }
-                    }
-            );
+        transformFeatures(features);
+        return getReport();
     }
 
+    /**
+     * Converts all features and accumulates them to the part of report, features are converted in parallel
+     * when the service was created with parallelism greater than 1
+     *
+     * @param features prepared JAVA feature class which should be convert to another DTO
+     * @return the part of report which was built from all features passed to this service
+     */
     @NotNull
-    private Collection<TestCase> getTestCasesFromFeature(@NotNull Map<Integer, TemporaryTestCase> tests) {
-        Collection<TestCase> testCases = new ArrayList<>();
-
-        tests.values().stream().filter(testCase -> testCase.getKeyword().equals(XMLBuilderConstants.BACKGROUND)).forEach(tt -> backgroundValue = tt.getTestOutputString());
-        tests.values().stream().filter(t -> t.getKeyword().equals(XMLBuilderConstants.SCENARIO)).forEach(temporaryTestCase -> testCases.add(
-                new TestCase()
-                        .setTestName(temporaryTestCase.getName())
-                        .setDescription(temporaryTestCase.getDescription())
-                        .setCaseOutInfo(backgroundValue.concat(temporaryTestCase.getTestOutputString()))
-                        .setCaseOutErr(temporaryTestCase.getTestErrorOutputString())));
-
-        return testCases;
+    public PartialReport transformFeatures(@NotNull Collection<Feature> features) {
+        if (parallelism > 1 && features.size() > 1) {
+            var pool = new ForkJoinPool(parallelism);
+            try {
+                //ordered stream keeps suites in the order of features after reduction
+                partialReport.merge(pool.submit(() -> features.parallelStream()
+                        .map(TransformService::toPartialReport)
+                        .collect(PartialReport::new, PartialReport::merge, PartialReport::merge)).join());
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            features.forEach(this::transformFeature);
+        }
+        return partialReport;
     }
 
     /**
-     * Separate method for better handling code
-     * Created for getting data about tags and pass these tags to other function
+     * Converts one deserialized feature to {@link SingleReportSuite} and accumulates its values to the report totals.
+     * It allows to pass features one by one as soon as they are parsed, so a caller never needs
+     * to keep the whole collection of features in memory
      *
-     * @param tags object which should be handled
+     * @param feature prepared JAVA feature class which should be convert to another DTO
      */
-    private void tagsProcessing(@NotNull Collection<Tag> tags) {
-        tags.stream().filter(
-                t -> !allTagsFromAllFeatures.contains(t.getName())).forEach(tag -> allTagsFromAllFeatures += tag.getName().concat(" "));
+    public void transformFeature(@NotNull Feature feature) {
+        partialReport.merge(toPartialReport(feature));
     }
 
     /**
-     * Helper method which fill object {@link XMLReport}. This object contains all Feature file from Cucumber, which contains all Backgrounds and Scenarios
+     * Converts one deserialized feature to the part of report which contains single {@link SingleReportSuite}
+     * with values of the feature for report totals. The method has no side effects and could be called from many threads
      *
-     * @param tempTags string value from all features files
-     * @param _countFailuresAllErrorsFromAllFiles string value of quantity of errors from all feature files
-     * @param _countFailuresTestsFromAllFiles string value of quantity of failures from all feature files
-     * @param successfulCountTests string value of quantity of successful tests from all feature files
-     * @param _duration string value of duration for all feature files
-     * @param singleReportSuites object {@link SingleReportSuite} with prepared data
-     *
-     * @return prepared object {@link XMLReport} with all prepared data
+     * @param feature prepared JAVA feature class which should be convert to another DTO
+     * @return the part of report built from the feature
      */
     @NotNull
-    private XMLReport getReportSuites(
-            @NotNull String tempTags,
-            int _countFailuresAllErrorsFromAllFiles,
-            int _countFailuresTestsFromAllFiles,
-            int successfulCountTests,
-            Long _duration,
-            Collection<SingleReportSuite> singleReportSuites) {
-        var reportSuites = new XMLReport();
-
-        if (tempTags.contains(XMLBuilderConstants.IGNORED) || tempTags.contains(XMLBuilderConstants.DISABLED)) {
-            var i = StringUtils.countMatches(tempTags, XMLBuilderConstants.IGNORED);
-            var j = StringUtils.countMatches(tempTags, XMLBuilderConstants.DISABLED);
-            reportSuites.setDisabled(String.valueOf(i + j));
-        }
-
-        reportSuites.setErrors(String.valueOf(_countFailuresAllErrorsFromAllFiles))
-                .setFailures(String.valueOf(_countFailuresTestsFromAllFiles))
-                .setTests(String.valueOf(successfulCountTests))
-                .setTime(String.valueOf(UtilsConverter.round.apply(_duration * XMLBuilderConstants.RATIO)))
-                .setSingleReportSuites(singleReportSuites)
-                .setTags(tempTags);
-
-        return reportSuites;
+    public static PartialReport toPartialReport(@NotNull Feature feature) {
+        return new FeatureTransformation().transform(feature);
     }
 
     /**
-     * Helper method that processes the input string and accumulates its value to other string field of class
+     * Builds the aggregated report from all features which were passed to {@link #transformFeature(Feature)} before
      *
-     * @param keywordType string value keyword of Element
-     * @param keyword string value keyword of Step
-     * @param stepName string value name of Step
-     * @param stepResult_ string value result of Step
+     * @return prepared DTO aggregated class with all needed data for serialize it to XML file
      */
-    @Contract(pure = true)
-    private void stringOutBuilder(String keywordType, String keyword, String stepName, String stepResult_) {
-        var outLength = 15;
-        var outLengthSecond = 90;
-        var outString = new StringBuilder(keywordType);
-
-        while (outString.length() < outLength) outString.append(".");
-        outString.append(keyword.concat(" ").concat(stepName));
-        while (outString.length() < outLengthSecond) outString.append(".");
-        outString.append(stepResult_);
+    public XMLReport getReport() {
+        return partialReport.toXMLReport();
+    }
 
-        stepOutResults += "\n".concat(outString.toString());
+    /**
+     * @return the part of report which was built from all features passed to {@link #transformFeature(Feature)} before
+     */
+    public PartialReport getPartialReport() {
+        return partialReport;
     }
 
     /**
-     * Helper method that processes the input string and accumulates its value to other string field of class
-     *
-     * @param errMessage string value that should be accumulated
+     * Intermediate values of conversion of one feature. New instance is created for every feature,
+     * so values of one feature never leak to other features
      */
-    @Contract(pure = true)
-    private void stringErrBuilder(String errMessage) {
-        stepErrResults += "\n".concat(errMessage);
+    private static class FeatureTransformation {
+
+        private final Map<Integer, TemporaryTestCase> tests = new HashMap<>();
+        private final TagCounters suiteTags = new TagCounters();
+        private final HttpHeaderScanner httpHeaderScanner = new HttpHeaderScanner();
+        private final StepOutputRenderer stepOutputRenderer = new StepOutputRenderer();
+        private String backgroundValue = "";
+        private int countFailuresTestFromOneFile = 0;
+        private int countScenariosInSuite = 0;
+        private long durationOfTest = 0L;
+        private long durationOfAllTest = 0L;
+
+        @NotNull
+        private PartialReport transform(@NotNull Feature feature) {
+            if (feature.getTags() != null) tagsProcessing(feature.getTags());
+            if (feature.getElements() != null)
+                feature.getElements().forEach(element -> elementProcessing(feature, element));
+
+            //id is assigned when parts are combined to the aggregated report
+            return new PartialReport().addSuite(new SingleReportSuite()
+                    .setTests(countScenariosInSuite)
+                    .setName(getLastElement(Arrays.stream(feature.getName().split("/")).collect(Collectors.toList())))
+                    .setErrors(countFailuresTestFromOneFile)
+                    .setFailures(countFailuresTestFromOneFile)
+                    .setPackageName(feature.getName())
+                    .setTime(durationOfAllTest)
+                    .setTimestamp(httpHeaderScanner.getDate().isEmpty() ? null : LocalDateTime.parse(httpHeaderScanner.getDate(), DATE_FORMATTER).toString())
+                    .setTestCases(getTestCasesFromFeature(tests))
+                    .setHostname(httpHeaderScanner.getHost())
+                    .setTags(suiteTags.isEmpty() ? null : suiteTags.toTagString())
+                    .setDisabled(suiteTags.getDisabledCount() > 0 ? suiteTags.getDisabledCount() : null),
+                    countScenariosInSuite, countFailuresTestFromOneFile, durationOfAllTest)
+                    .addTags(suiteTags);
+        }
+
+        private void elementProcessing(Feature feature, @NotNull Element element) {
+            if (element.getKeyword().equals(XMLBuilderConstants.SCENARIO)) {
+                countScenariosInSuite += 1;
+            }
+            if (element.getTags() != null) tagsProcessing(element.getTags());
+            if (element.getSteps() != null)
+                element.getSteps().forEach(step -> stepProcessing(element, step));
+
+            tests.put(element.getLine(), new TemporaryTestCase()
+                    .setLine(element.getLine())
+                    .setKeyword(element.getKeyword())
+                    .setName(element.getName())
+                    .setDescription(feature.getDescription())
+                    .setTestOutputString(stepOutputRenderer.takeOutput())
+                    .setTestErrorOutputString(stepOutputRenderer.takeErrors())
+                    .setTestDuration(durationOfTest));
+
+            durationOfAllTest += durationOfTest;
+            durationOfTest = 0L;
+        }
+
+        private void stepProcessing(Element element, @NotNull Step step) {
+            if (step.getResult().getStatus() != Status.PASSED) {
+                countFailuresTestFromOneFile += 1;
+                stepOutputRenderer.appendFailedStep(step.getResult().getErrorMessage());
+            } else {
+                stepOutputRenderer.appendPassedStep(element.getKeyword(), step.getKeyword(), step.getName(), step.getResult().getStatus().getValue());
+            }
+            durationOfTest += step.getResult().getDuration();
+
+            //host and date of the feature are taken from the first requests which contain them
+            if (step.getDocString() != null && step.getDocString().getValue() != null && !httpHeaderScanner.isComplete())
+                httpHeaderScanner.scan(step.getDocString().getValue());
+        }
+
+        @NotNull
+        private Collection<TestCase> getTestCasesFromFeature(@NotNull Map<Integer, TemporaryTestCase> tests) {
+            Collection<TestCase> testCases = new ArrayList<>();
+
+            tests.values().stream().filter(testCase -> testCase.getKeyword().equals(XMLBuilderConstants.BACKGROUND)).forEach(tt -> backgroundValue = tt.getTestOutputString());
+            tests.values().stream().filter(t -> t.getKeyword().equals(XMLBuilderConstants.SCENARIO)).forEach(temporaryTestCase -> testCases.add(
+                    new TestCase()
+                            .setTestName(temporaryTestCase.getName())
+                            .setDescription(temporaryTestCase.getDescription())
+                            .setCaseOutInfo(StepOutputRenderer.joinOutput(backgroundValue, temporaryTestCase.getTestOutputString()))
+                            .setCaseOutErr(temporaryTestCase.getTestErrorOutputString())));
+
+            return testCases;
+        }
+
+        /**
+         * Separate method for better handling code
+         * Created for getting data about tags and pass these tags to other function
+         *
+         * @param tags object which should be handled
+         */
+        private void tagsProcessing(@NotNull Collection<Tag> tags) {
+            tags.stream().map(Tag::getName).filter(Objects::nonNull).forEach(suiteTags::add);
+        }
     }
 
     /**
@@ -246,7 +237,7 @@ public class TransformService {
      * @return
      */
     @Contract(pure = true)
-    private <T> T getLastElement(@NotNull final Iterable<T> elements) {
+    private static <T> T getLastElement(@NotNull final Iterable<T> elements) {
         T lastElement = null;
 
         for (T element : elements) {
@@ -256,19 +247,6 @@ public class TransformService {
         return lastElement;
     }
 
-    /**
-     * Helper converter string to array after splitting by specific separator symbol
-     *
-     * @param str which should be split and should be convert
-     * @param separator string value of separator for split the string
-     *
-     * @return string arrays
-     */
-    @NotNull
-    private List<String> getArrayStringBySeparator(@NotNull String str, String separator) {
-        return Arrays.asList(str.split(separator));
-    }
-
     @NoArgsConstructor
     @Getter
     static class TemporaryTestCase {
@@ -277,7 +255,7 @@ public class TransformService {
         private Integer line;
         private String name;
         private String description;
-        private Long testDuration;
+        private long testDuration;
         private String testOutputString;
         private String testErrorOutputString;
 
@@ -296,7 +274,7 @@ public class TransformService {
             return this;
         }
 
-        public TemporaryTestCase setTestDuration(Long testDuration) {
+        public TemporaryTestCase setTestDuration(long testDuration) {
             this.testDuration = testDuration;
             return this;
         }
@@ -1,75 +1,114 @@
 package com.easytestit.generatexml.service;
 
+import com.easytestit.generatexml.ValidationException;
 import com.easytestit.generatexml.data.DefaultData;
-import lombok.NoArgsConstructor;
+import lombok.Getter;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 /**
  * FileToZip used for creating ZIP archive
  */
-@NoArgsConstructor
 public class ZipService {
 
     private static final Logger LOGGER = LogManager.getLogger(ZipService.class.getName());
 
-    public void createZip() {
-        try {
-            LOGGER.log(Level.INFO, "Start to create new ZIP archive in project root directory");
+    /**
+     * The file where archive is written
+     */
+    @Getter
+    private final Path archive;
+    private final int compressionLevel;
 
-            String sourceFile = DefaultData.REPORT_RESULTS_FOLDER.concat(DefaultData.FILE_NAME);
-            FileOutputStream fos = new FileOutputStream(DefaultData.FILE_ZIP_NAME);
-            ZipOutputStream zipOut = new ZipOutputStream(fos);
-            File fileToZip = new File(sourceFile);
+    public ZipService() {
+        this(Path.of(DefaultData.FILE_ZIP_NAME), Deflater.DEFAULT_COMPRESSION);
+    }
 
-            zipFile(fileToZip, fileToZip.getName(), zipOut);
-            zipOut.close();
-            fos.close();
-            LOGGER.log(Level.INFO, "ZIP was created");
-        } catch (Exception e) {
-            LOGGER.log(Level.ERROR, e.getMessage());
+    /**
+     * @param archive the file where archive should be written
+     * @param compressionLevel level of compression from 0 to 9 or {@link Deflater#DEFAULT_COMPRESSION}
+     */
+    public ZipService(@NotNull Path archive, int compressionLevel) {
+        if (compressionLevel != Deflater.DEFAULT_COMPRESSION && (compressionLevel < Deflater.NO_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION)) {
+            throw new IllegalArgumentException("Compression level should be from 0 to 9, but was " + compressionLevel);
         }
+        this.archive = archive;
+        this.compressionLevel = compressionLevel;
     }
 
-    private void zipFile(File fileToZip, String fileName, ZipOutputStream zipOut) {
-        try {
-            if (fileToZip.isHidden()) {
-                LOGGER.log(Level.INFO, "File which located in ".concat(DefaultData.REPORT_RESULTS_FOLDER).concat(" is hidden"));
-                return;
-            }
-            if (fileToZip.isDirectory()) {
-                LOGGER.log(Level.INFO, "File which located in ".concat(DefaultData.REPORT_RESULTS_FOLDER).concat(" is direction"));
-                if (fileName.endsWith("/")) {
-                    zipOut.putNextEntry(new ZipEntry(fileName));
-                    zipOut.closeEntry();
-                } else {
-                    zipOut.putNextEntry(new ZipEntry(fileName + "/"));
-                    zipOut.closeEntry();
-                }
-                File[] children = fileToZip.listFiles();
-                for (File childFile : children != null ? children : new File[0]) {
-                    zipFile(childFile, fileName + "/" + childFile.getName(), zipOut);
-                }
-                return;
-            }
-            FileInputStream fis = new FileInputStream(fileToZip);
-            ZipEntry zipEntry = new ZipEntry(fileName);
-            zipOut.putNextEntry(zipEntry);
-            byte[] bytes = new byte[1024];
-            int length;
-            while ((length = fis.read(bytes)) >= 0) {
-                zipOut.write(bytes, 0, length);
-            }
-            fis.close();
-        } catch (Exception e) {
-            LOGGER.log(Level.DEBUG, e.getMessage());
+    /**
+     * Archive the aggregated report which was written to the default results folder
+     */
+    public void createZip() {
+        createZip(Path.of(DefaultData.REPORT_RESULTS_FOLDER, DefaultData.FILE_NAME));
+    }
+
+    /**
+     * Archive the written file. The archive is written to the temporary file in the same folder first and then
+     * moved to the target, so the previous archive is kept when the file can't be archived
+     *
+     * @param sourceFile the file which should be archived
+     */
+    public void createZip(@NotNull Path sourceFile) {
+        LOGGER.log(Level.INFO, "Start to create new ZIP archive in project root directory");
+        try (var out = new ReportOutput(this, sourceFile.getFileName().toString())) {
+            Files.copy(sourceFile, out);
+            out.commit();
+        } catch (IOException e) {
+            throw new ValidationException(String.format("File '%s' can't be archived to '%s'", sourceFile, archive), e);
         }
+        LOGGER.log(Level.INFO, "ZIP was created");
+    }
+
+    /**
+     * Open the temporary archive next to the target archive
+     *
+     * @param entryName name of the only file in archive
+     * @return stream of archive where content of the entry is written
+     * @throws IOException when the archive can't be created
+     */
+    @NotNull
+    ZipOutputStream openTemporaryArchive(@NotNull String entryName) throws IOException {
+        var folder = archive.toAbsolutePath().getParent();
+        Files.createDirectories(folder);
+        var zipOut = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryArchive())));
+        zipOut.setLevel(compressionLevel);
+        zipOut.putNextEntry(new ZipEntry(entryName));
+        return zipOut;
+    }
+
+    /**
+     * Replace the target archive by the written temporary archive
+     *
+     * @throws IOException when the archive can't be moved
+     */
+    void commitTemporaryArchive() throws IOException {
+        Files.move(temporaryArchive(), archive, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Remove the temporary archive which wasn't committed
+     *
+     * @throws IOException when the file can't be removed
+     */
+    void discardTemporaryArchive() throws IOException {
+        Files.deleteIfExists(temporaryArchive());
+    }
+
+    @NotNull
+    private Path temporaryArchive() {
+        //sibling file gets the same default permissions as the target
+        return archive.toAbsolutePath().resolveSibling(archive.getFileName().toString().concat(".tmp"));
     }
 }
@@ -0,0 +1,47 @@
+package com.easytestit.generatexml.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Writes durations in nanoseconds as seconds rounded to hundredths, e.g. {@code 1.48}, {@code 1.5} or {@code 0.0}.
+ * Digits are appended straight to the buffer without {@link java.text.DecimalFormat} and intermediate doubles
+ */
+public final class FixedDecimal {
+
+    private static final long NANOS_PER_HUNDREDTH = 10_000_000L;
+
+    private FixedDecimal() {
+    }
+
+    /**
+     * Append duration as seconds with at most two fraction digits, trailing zero of hundredths is omitted
+     *
+     * @param nanos duration in nanoseconds
+     * @param out buffer where seconds are appended
+     * @return the same buffer
+     */
+    @NotNull
+    public static StringBuilder appendSeconds(long nanos, @NotNull StringBuilder out) {
+        if (nanos < 0) {
+            out.append('-');
+            nanos = -nanos;
+        }
+        //round half to even as DecimalFormat does
+        var hundredths = nanos / NANOS_PER_HUNDREDTH;
+        var remainder = nanos % NANOS_PER_HUNDREDTH;
+        if (remainder > NANOS_PER_HUNDREDTH / 2 || (remainder == NANOS_PER_HUNDREDTH / 2 && (hundredths & 1) == 1)) hundredths++;
+
+        out.append(hundredths / 100).append('.').append((char) ('0' + hundredths / 10 % 10));
+        if (hundredths % 10 != 0) out.append((char) ('0' + hundredths % 10));
+        return out;
+    }
+
+    /**
+     * @param nanos duration in nanoseconds
+     * @return duration as seconds with at most two fraction digits
+     */
+    @NotNull
+    public static String toSeconds(long nanos) {
+        return appendSeconds(nanos, new StringBuilder(12)).toString();
+    }
+}
@@ -0,0 +1,22 @@
+package com.easytestit.generatexml.utils;
+
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import java.math.BigDecimal;
+
+/**
+ * JAXB adapter which keeps durations in nanoseconds in the model and writes them as seconds to XML
+ */
+public class SecondsAdapter extends XmlAdapter<String, Long> {
+
+    private static final BigDecimal NANOS_PER_SECOND = BigDecimal.valueOf(1_000_000_000L);
+
+    @Override
+    public Long unmarshal(String seconds) {
+        return seconds == null ? null : new BigDecimal(seconds.trim()).multiply(NANOS_PER_SECOND).longValue();
+    }
+
+    @Override
+    public String marshal(Long nanos) {
+        return nanos == null ? null : FixedDecimal.toSeconds(nanos);
+    }
+}
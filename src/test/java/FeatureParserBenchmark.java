@@ -0,0 +1,124 @@
+import com.easytestit.generatexml.parser.FeatureParser;
+import com.easytestit.generatexml.parser.GsonFeatureParser;
+import com.easytestit.generatexml.parser.JacksonFeatureParser;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares throughput and allocation of {@link FeatureParser} backends on the same generated corpus.
+ * Run it with: java -cp target/classes:target/test-classes:&lt;dependencies&gt; FeatureParserBenchmark [corpusMB] [iterations]
+ */
+public class FeatureParserBenchmark {
+
+    private static final String EMBEDDING = "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==";
+    private static final String DOC_STRING = "1 > GET https://jsonplaceholder.typicode.com/users/1\\n"
+            + "1 > Host: jsonplaceholder.typicode.com\\n1 > User-Agent: Apache-HttpClient/4.5.5 (Java/1.8.0_172)\\n\\n"
+            + "1 < 200\\n1 < Date: Tue, 15 Oct 2019 10:22:33 GMT\\n1 < Content-Type: application/json\\n";
+
+    private static long blackhole;
+
+    public static void main(String[] args) throws IOException {
+        var corpusMegabytes = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        var iterations = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        var corpus = generateCorpus(corpusMegabytes);
+        var corpusBytes = Files.size(corpus);
+        System.out.printf("Corpus %s: %.1f MB%n", corpus, corpusBytes / 1048576.0);
+
+        Map<String, FeatureParser> parsers = new LinkedHashMap<>();
+        parsers.put("gson", new GsonFeatureParser());
+        parsers.put("gson-projection", new GsonFeatureParser(true));
+        parsers.put("jackson", new JacksonFeatureParser());
+        parsers.put("jackson-projection", new JacksonFeatureParser(true));
+
+        System.out.printf("%-20s %12s %16s %16s%n", "backend", "MB/s", "alloc MB/s", "alloc B/input B");
+        for (Map.Entry<String, FeatureParser> parser : parsers.entrySet()) {
+            //warm up JIT before measuring
+            for (var i = 0; i < 2; i++) parse(parser.getValue(), corpus);
+
+            List<Long> times = new ArrayList<>();
+            long allocated = 0;
+            for (var i = 0; i < iterations; i++) {
+                var allocatedBefore = allocatedBytes();
+                var start = System.nanoTime();
+                parse(parser.getValue(), corpus);
+                times.add(System.nanoTime() - start);
+                allocated += allocatedBytes() - allocatedBefore;
+            }
+            Collections.sort(times);
+            var medianSeconds = times.get(times.size() / 2) / 1e9;
+            var allocatedPerRun = (double) allocated / iterations;
+            System.out.printf("%-20s %12.1f %16.1f %16.2f%n",
+                    parser.getKey(),
+                    corpusBytes / 1048576.0 / medianSeconds,
+                    allocatedPerRun / 1048576.0 / medianSeconds,
+                    allocatedPerRun / corpusBytes);
+        }
+        System.out.println(blackhole == 42 ? "" : "done");
+        Files.delete(corpus);
+    }
+
+    private static void parse(FeatureParser parser, Path corpus) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(corpus))) {
+            blackhole += parser.parse(in, feature -> blackhole += feature.getElements().size());
+        }
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Generate Cucumber JSON report with Karate-like doc strings and base64 embeddings
+     */
+    private static Path generateCorpus(int megabytes) throws IOException {
+        var corpus = Files.createTempFile("cucumber-corpus", ".json");
+        var limit = megabytes * 1048576L;
+        var embedding = String.join("", Collections.nCopies(200, EMBEDDING));
+        long written = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(corpus, StandardCharsets.UTF_8)) {
+            writer.write("[");
+            for (var feature = 0; written < limit; feature++) {
+                var json = new StringBuilder();
+                if (feature > 0) json.append(',');
+                json.append("{\"line\":1,\"id\":\"f").append(feature).append("\",\"keyword\":\"Feature\",\"uri\":\"features/f.feature\",")
+                        .append("\"name\":\"features/f").append(feature).append(".feature\",\"description\":\"feature description\",")
+                        .append("\"tags\":[{\"name\":\"@api\",\"line\":1}],\"elements\":[");
+                for (var scenario = 0; scenario < 10; scenario++) {
+                    if (scenario > 0) json.append(',');
+                    json.append("{\"line\":").append(10 + scenario).append(",\"id\":\"s\",\"type\":\"scenario\",\"keyword\":\"Scenario\",")
+                            .append("\"name\":\"scenario ").append(scenario).append("\",\"description\":\"scenario description\",")
+                            .append("\"tags\":[{\"name\":\"@smoke\",\"line\":9}],\"steps\":[");
+                    for (var step = 0; step < 10; step++) {
+                        if (step > 0) json.append(',');
+                        json.append("{\"line\":").append(step).append(",\"keyword\":\"When \",\"name\":\"method get\",")
+                                .append("\"match\":{\"location\":\"steps.java:10\",\"arguments\":[{\"val\":\"1\",\"offset\":3}]},")
+                                .append("\"result\":{\"status\":\"passed\",\"duration\":123456789},")
+                                .append("\"doc_string\":{\"content_type\":\"\",\"line\":5,\"value\":\"").append(DOC_STRING).append("\"},")
+                                .append("\"output\":[\"output line\"],")
+                                .append("\"embeddings\":[{\"mime_type\":\"image/png\",\"data\":\"").append(embedding).append("\"}]}");
+                    }
+                    json.append("]}");
+                }
+                json.append("]}");
+                writer.write(json.toString());
+                written += json.length();
+            }
+            writer.write("]");
+        }
+        return corpus;
+    }
+}
@@ -0,0 +1,75 @@
+import com.easytestit.generatexml.dto.input.Feature;
+import com.easytestit.generatexml.dto.input.elements.steps.result.Status;
+import com.easytestit.generatexml.parser.FeatureParser;
+import com.easytestit.generatexml.parser.GsonFeatureParser;
+import com.easytestit.generatexml.parser.JacksonFeatureParser;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class FeatureParserTest {
+
+    private static final String REPORT = "[{\"line\":1,\"id\":\"feature\",\"keyword\":\"Feature\",\"uri\":\"f.feature\","
+            + "\"name\":\"features/smoke.feature\",\"description\":\"feature description\",\"tags\":[{\"name\":\"@api\",\"line\":1}],"
+            + "\"elements\":[{\"line\":5,\"id\":\"s\",\"type\":\"scenario\",\"keyword\":\"Scenario\",\"name\":\"get user\","
+            + "\"description\":null,\"steps\":[{\"line\":6,\"keyword\":\"When \",\"name\":\"method get\","
+            + "\"match\":{\"location\":\"x\",\"arguments\":[]},\"embeddings\":[{\"data\":\"QUJD\"}],"
+            + "\"result\":{\"status\":\"failed\",\"duration\":15,\"error_message\":\"boom\"},"
+            + "\"doc_string\":{\"content_type\":\"\",\"line\":7,\"value\":\"1 > Host: localhost\"}}]}]}]";
+
+    @Test
+    public void gsonAndJacksonReadSameValues() throws IOException {
+        assertFeature(parse(new GsonFeatureParser()), false);
+        assertFeature(parse(new JacksonFeatureParser()), false);
+    }
+
+    @Test
+    public void projectionSkipsUnusedValues() throws IOException {
+        assertFeature(parse(new GsonFeatureParser(true)), true);
+        assertFeature(parse(new JacksonFeatureParser(true)), true);
+    }
+
+    private static Feature parse(FeatureParser parser) throws IOException {
+        List<Feature> features = new ArrayList<>();
+        var count = parser.parse(new ByteArrayInputStream(REPORT.getBytes(StandardCharsets.UTF_8)), features::add);
+        assertEquals(1, count);
+        assertEquals(1, features.size());
+        return features.get(0);
+    }
+
+    private static void assertFeature(Feature feature, boolean projection) {
+        assertEquals("features/smoke.feature", feature.getName());
+        assertEquals("feature description", feature.getDescription());
+        assertEquals("@api", feature.getTags().get(0).getName());
+
+        var element = feature.getElements().get(0);
+        assertEquals(Integer.valueOf(5), element.getLine());
+        assertEquals("Scenario", element.getKeyword());
+        assertNull(element.getDescription());
+
+        var step = element.getSteps().get(0);
+        assertEquals("When ", step.getKeyword());
+        assertEquals("method get", step.getName());
+        assertEquals(Status.FAILED, step.getResult().getStatus());
+        assertEquals(Long.valueOf(15), step.getResult().getDuration());
+        assertEquals("boom", step.getResult().getErrorMessage());
+        assertEquals("1 > Host: localhost", step.getDocString().getValue());
+
+        if (projection) {
+            assertNull(feature.getUri());
+            assertNull(step.getMatch());
+            assertNull(step.getLine());
+        } else {
+            assertEquals("f.feature", feature.getUri());
+            assertEquals("x", step.getMatch().getLocation());
+            assertEquals(Integer.valueOf(6), step.getLine());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+import com.easytestit.generatexml.utils.FixedDecimal;
+import com.easytestit.generatexml.utils.UtilsConverter;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class FixedDecimalTest {
+
+    @Test
+    public void secondsAreWrittenLikeRoundedDouble() {
+        assertEquals("0.0", FixedDecimal.toSeconds(0));
+        assertEquals("1.5", FixedDecimal.toSeconds(1_500_000_000L));
+        assertEquals("1.48", FixedDecimal.toSeconds(1_477_000_000L));
+        assertEquals("12.0", FixedDecimal.toSeconds(11_999_000_000L));
+
+        var random = new Random(42);
+        for (var i = 0; i < 10_000; i++) {
+            var nanos = (long) (random.nextDouble() * 1_000_000_000_000L);
+            assertEquals(String.valueOf(UtilsConverter.round.apply(nanos * 0.000000001)), FixedDecimal.toSeconds(nanos));
+        }
+    }
+}
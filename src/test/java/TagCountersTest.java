@@ -0,0 +1,28 @@
+import com.easytestit.generatexml.service.TagCounters;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class TagCountersTest {
+
+    @Test
+    public void tagsAreMatchedByExactName() {
+        var tags = new TagCounters().add("@smoke-api").add("@smoke").add("@smoke");
+
+        assertEquals("@smoke-api @smoke", tags.toTagString());
+        assertEquals(2, tags.getCount("@smoke"));
+        assertEquals(1, tags.getCount("@smoke-api"));
+    }
+
+    @Test
+    public void mergeKeepsOrderAndCountsDisabledTags() {
+        var first = new TagCounters().add("@api").add("@ignored");
+        var second = new TagCounters().add("@disabled").add("@api").add("@ignored");
+
+        var tags = new TagCounters().merge(first).merge(second);
+
+        assertEquals("@api @ignored @disabled", tags.toTagString());
+        assertEquals(2, tags.getCount("@api"));
+        assertEquals(3, tags.getDisabledCount());
+    }
+}